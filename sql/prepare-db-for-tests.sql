@@ -71,24 +71,36 @@ VALUES (UNHEX(REPLACE('78452df2-1e97-4c0e-a691-9b381c714850', '-', '')),
         'IN_PROGRESS',
         24.4,
         UNHEX(REPLACE('3b0a4223-35e6-47b1-9ac3-f95911979574', '-', '')));
-INSERT INTO order_product_ids(order_id, product_ids)
-VALUES (UNHEX(REPLACE('78452df2-1e97-4c0e-a691-9b381c714850', '-', '')),
-        UNHEX(REPLACE('2a51b256-a6ef-4748-9354-a869290c3bf0', '-', '')));
+INSERT INTO order_line(id, order_id, product_id, quantity, unit_price, currency)
+VALUES (UUID_TO_BIN(UUID()),
+        UNHEX(REPLACE('78452df2-1e97-4c0e-a691-9b381c714850', '-', '')),
+        UNHEX(REPLACE('2a51b256-a6ef-4748-9354-a869290c3bf0', '-', '')),
+        1,
+        24.4,
+        'USD');
 
 INSERT INTO user_order(id, status, total, user_id)
 VALUES (UNHEX(REPLACE('3e5451f2-efb3-42ce-88f1-1a566421e676', '-', '')),
         'CANCEL',
         24.4,
         UNHEX(REPLACE('3b0a4223-35e6-47b1-9ac3-f95911979574', '-', '')));
-INSERT INTO order_product_ids(order_id, product_ids)
-VALUES (UNHEX(REPLACE('3e5451f2-efb3-42ce-88f1-1a566421e676', '-', '')),
-        UNHEX(REPLACE('2a51b256-a6ef-4748-9354-a869290c3bf0', '-', '')));
+INSERT INTO order_line(id, order_id, product_id, quantity, unit_price, currency)
+VALUES (UUID_TO_BIN(UUID()),
+        UNHEX(REPLACE('3e5451f2-efb3-42ce-88f1-1a566421e676', '-', '')),
+        UNHEX(REPLACE('2a51b256-a6ef-4748-9354-a869290c3bf0', '-', '')),
+        1,
+        24.4,
+        'USD');
 
 INSERT INTO user_order(id, status, total, user_id)
 VALUES (UNHEX(REPLACE('6434e8d9-3ab1-40e0-88c2-bc318538f8e1', '-', '')),
         'WAITING_FOR_PAYMENT',
         24.4,
         UNHEX(REPLACE('3b0a4223-35e6-47b1-9ac3-f95911979574', '-', '')));
-INSERT INTO order_product_ids(order_id, product_ids)
-VALUES (UNHEX(REPLACE('6434e8d9-3ab1-40e0-88c2-bc318538f8e1', '-', '')),
-        UNHEX(REPLACE('2a51b256-a6ef-4748-9354-a869290c3bf0', '-', '')));
\ No newline at end of file
+INSERT INTO order_line(id, order_id, product_id, quantity, unit_price, currency)
+VALUES (UUID_TO_BIN(UUID()),
+        UNHEX(REPLACE('6434e8d9-3ab1-40e0-88c2-bc318538f8e1', '-', '')),
+        UNHEX(REPLACE('2a51b256-a6ef-4748-9354-a869290c3bf0', '-', '')),
+        1,
+        24.4,
+        'USD');
\ No newline at end of file
@@ -2,11 +2,13 @@ package com.afj.solution.buyitapp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * @author Tomash Gombosh
  */
 @SpringBootApplication
+@EnableScheduling
 @SuppressWarnings("PMD")
 public class Application {
     public static void main(final String[] args) {
@@ -0,0 +1,90 @@
+package com.afj.solution.buyitapp.common;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+public class ExpiringCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private final Duration ttl;
+    private final Clock clock;
+
+    public ExpiringCache(final int maxSize, final Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public ExpiringCache(final int maxSize, final Duration ttl, final Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = -2470563915364802173L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized Optional<V> get(final K key) {
+        final Entry<V> entry = entries.get(key);
+        if (isNull(entry)) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.millis())) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    public V get(final K key, final Function<K, V> loader) {
+        return get(key).orElseGet(() -> {
+            final V value = loader.apply(key);
+            put(key, value);
+            return value;
+        });
+    }
+
+    public void put(final K key, final V value) {
+        put(key, value, clock.instant().plus(ttl));
+    }
+
+    public synchronized void put(final K key, final V value, final Instant expiresAt) {
+        final Instant maxExpiresAt = clock.instant().plus(ttl);
+        final Instant expiration = expiresAt.isBefore(maxExpiresAt) ? expiresAt : maxExpiresAt;
+        entries.put(key, new Entry<>(value, expiration.toEpochMilli()));
+    }
+
+    public synchronized void invalidate(final K key) {
+        entries.remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    private record Entry<V>(V value, long expiresAt) {
+
+        boolean isExpired(final long now) {
+            return now >= expiresAt;
+        }
+    }
+}
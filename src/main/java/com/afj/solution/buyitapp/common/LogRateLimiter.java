@@ -0,0 +1,48 @@
+package com.afj.solution.buyitapp.common;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Tomash Gombosh
+ */
+public class LogRateLimiter {
+
+    public static final long SUPPRESSED = -1;
+
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogRateLimiter(final Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Returns how many events of the key were suppressed since the last logged one,
+     * or {@link #SUPPRESSED} when this event should not be logged. Keys must come from a small fixed set.
+     */
+    public long acquire(final String key) {
+        final long now = System.nanoTime();
+        final Window window = windows.computeIfAbsent(key, k -> new Window(now));
+        final long next = window.next.get();
+        if (now - next >= 0 && window.next.compareAndSet(next, now + intervalNanos)) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return SUPPRESSED;
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    private static final class Window {
+        private final AtomicLong next;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(final long next) {
+            this.next = new AtomicLong(next);
+        }
+    }
+}
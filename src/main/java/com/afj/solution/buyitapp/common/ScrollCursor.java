@@ -0,0 +1,62 @@
+package com.afj.solution.buyitapp.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.afj.solution.buyitapp.exception.BadRequestException;
+import com.afj.solution.buyitapp.service.localize.TranslatorService;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record ScrollCursor(ZonedDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public ScrollCursor {
+        requireNonNull(createdAt);
+        requireNonNull(id);
+    }
+
+    public String encode() {
+        final String value = createdAt.toInstant().toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScrollCursor decode(final String cursor) {
+        if (isNull(cursor) || cursor.isBlank()) {
+            return null;
+        }
+        final String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        final int separator = value.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Cursor has no separator");
+        }
+        try {
+            return new ScrollCursor(Instant.parse(value.substring(0, separator)).atZone(ZoneOffset.UTC),
+                    UUID.fromString(value.substring(separator + 1)));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Cursor has invalid timestamp", ex);
+        }
+    }
+
+    /**
+     * Decodes the cursor of a scroll request, the invalid cursor is rejected as a bad request.
+     */
+    public static ScrollCursor decode(final String cursor, final TranslatorService translator) {
+        try {
+            return decode(cursor);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException(format(translator.toLocale("error.cursor.invalid"), cursor));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.afj.solution.buyitapp.config;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Configuration
+public class DataSourceMetricsConfig {
+
+    /**
+     * Static, so the post processor is created before the other beans of the configuration and does not make them
+     * ineligible for auto-proxying.
+     */
+    @Bean
+    public static BeanPostProcessor endpointTimedDataSourcePostProcessor(final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                return bean instanceof DataSource dataSource && !(bean instanceof EndpointTimedDataSource)
+                        ? new EndpointTimedDataSource(dataSource, meterRegistry)
+                        : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.afj.solution.buyitapp.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static java.util.Objects.isNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+public class EndpointTimedDataSource extends DelegatingDataSource {
+
+    public static final String ACQUIRE_METRIC = "app.datasource.connection.acquire";
+    public static final String NO_ENDPOINT = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public EndpointTimedDataSource(final DataSource dataSource, final ObjectProvider<MeterRegistry> meterRegistry) {
+        super(dataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        final long startedAt = System.nanoTime();
+        try {
+            return super.getConnection();
+        } finally {
+            record(startedAt);
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        final long startedAt = System.nanoTime();
+        try {
+            return super.getConnection(username, password);
+        } finally {
+            record(startedAt);
+        }
+    }
+
+    private void record(final long startedAt) {
+        final long elapsed = System.nanoTime() - startedAt;
+        timers.computeIfAbsent(getEndpoint(), endpoint -> Timer.builder(ACQUIRE_METRIC)
+                        .description("Time the requests of the endpoint wait for a connection from the pool")
+                        .tag("uri", endpoint)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry.getObject()))
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Background work such as the image variants and the search index runs outside of a request and is tagged as none.
+     */
+    private static String getEndpoint() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return NO_ENDPOINT;
+        }
+        final HttpServletRequest request = servletAttributes.getRequest();
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return isNull(pattern) ? NO_ENDPOINT : request.getMethod() + " " + pattern;
+    }
+}
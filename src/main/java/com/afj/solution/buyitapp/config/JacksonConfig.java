@@ -0,0 +1,32 @@
+package com.afj.solution.buyitapp.config;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.datatype.jsr310.ser.ZonedDateTimeSerializer;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Configuration
+public class JacksonConfig {
+
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer dateTimeCustomizer() {
+        return builder -> builder.serializerByType(ZonedDateTime.class, new ZonedDateTimeSerializer(DATE_TIME_FORMATTER));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.jackson.blackbird.enabled", havingValue = "true")
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
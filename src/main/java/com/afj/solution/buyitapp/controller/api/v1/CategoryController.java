@@ -71,7 +71,7 @@ public class CategoryController {
     public @ResponseBody
     Response<String> createCategory(@Valid @RequestBody final CreateCategoryRequest createCategoryRequest,
                                     @RequestHeader(value = "Accept-Language", defaultValue = "gb") final String language) {
-        final String username = jwtTokenProvider.getUsernameFromToken(jwtTokenProvider.getToken().substring(7));
+        final String username = jwtTokenProvider.getPrincipal().username();
         log.info("Receive create category request from username -> {}", username);
         categoryService.save(createCategoryRequest, language);
         return generateSuccessResponse();
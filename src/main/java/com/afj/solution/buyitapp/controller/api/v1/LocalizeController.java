@@ -1,18 +1,26 @@
 package com.afj.solution.buyitapp.controller.api.v1;
 
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import com.afj.solution.buyitapp.service.localize.TranslatorService;
+import com.afj.solution.buyitapp.service.localize.LocalizeBundle;
+import com.afj.solution.buyitapp.service.localize.LocalizeCache;
 
 /**
  * @author Tomash Gombosh
@@ -22,22 +30,37 @@ import com.afj.solution.buyitapp.service.localize.TranslatorService;
 @RequestMapping(path = "/api/v1", produces = "application/json; charset=utf-8")
 public class LocalizeController {
 
-    private final TranslatorService translatorService;
+    private static final CacheControl LOCALIZE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final LocalizeCache localizeCache;
 
     @Autowired
-    public LocalizeController(final TranslatorService translatorService) {
-        this.translatorService = translatorService;
+    public LocalizeController(final LocalizeCache localizeCache) {
+        this.localizeCache = localizeCache;
     }
 
     @ApiOperation("Get localize config")
     @ApiResponses({
             @ApiResponse(code = 200, message = "Localize loaded successfully"),
+            @ApiResponse(code = 304, message = "Localize not modified"),
             @ApiResponse(code = 500, message = "Internal server error"),
     })
     @GetMapping("/localize")
-    public @ResponseBody
-    Map<String, Object> localize() {
+    public ResponseEntity<byte[]> localize(final WebRequest request) {
         log.info("Get localize request");
-        return translatorService.getLocalize();
+        final LocalizeBundle bundle = localizeCache.get(LocaleContextHolder.getLocale());
+        if (request.checkNotModified(bundle.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(bundle.etag())
+                    .cacheControl(LOCALIZE_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(bundle.etag())
+                .cacheControl(LOCALIZE_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE)
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .body(bundle.json());
     }
 }
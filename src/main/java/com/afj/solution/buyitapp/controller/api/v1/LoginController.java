@@ -45,7 +45,7 @@ public class LoginController {
     @PostMapping(value = "/login", produces = MediaType.APPLICATION_JSON_VALUE)
     public @ResponseBody
     Object login(@Valid @RequestBody final LoginRequest loginRequest) throws IOException {
-        log.info("Receive login request from username -> {}", loginRequest.toString());
+        log.info("Receive login request from username -> {}", loginRequest.getUsername());
         final Object loginResult = userAuthService.login(loginRequest);
         return loginResult instanceof String
                 ? new JwtResponse((String) loginResult)
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -27,9 +28,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.afj.solution.buyitapp.common.Response;
 import com.afj.solution.buyitapp.payload.request.CreateOrderRequest;
 import com.afj.solution.buyitapp.payload.response.OrderResponse;
+import com.afj.solution.buyitapp.payload.response.ScrollResponse;
 import com.afj.solution.buyitapp.security.JwtTokenProvider;
 import com.afj.solution.buyitapp.service.order.OrderServiceImpl;
 
+import static com.afj.solution.buyitapp.constans.Patterns.DEFAULT_SCROLL_SIZE;
 import static com.afj.solution.buyitapp.constans.Patterns.generateSuccessResponse;
 
 /**
@@ -61,7 +64,7 @@ public class OrderController {
     @PreAuthorize("hasRole('ANONYMOUS') or hasRole('USER') or hasRole('ADMIN')")
     public @ResponseBody
     OrderResponse createOrder(@Valid @RequestBody final CreateOrderRequest createOrderRequest) {
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
         log.info("Receive create order request for id -> {}", userId);
         return orderService.create(createOrderRequest, userId);
     }
@@ -76,11 +79,28 @@ public class OrderController {
     @PreAuthorize("hasRole('ANONYMOUS') or hasRole('USER') or hasRole('ADMIN')")
     public @ResponseBody
     Page<OrderResponse> getMyOrders(final Pageable pageable) {
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
         log.info("Receive get my orders request for id -> {}", userId);
         return orderService.getMyOrders(pageable, userId);
     }
 
+    @ApiOperation(value = "Scroll my orders", notes = "All Roles", authorizations = {@Authorization("Bearer")})
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Orders returned successfully"),
+            @ApiResponse(code = 400, message = "Invalid cursor"),
+            @ApiResponse(code = 401, message = "Unauthorized"),
+            @ApiResponse(code = 500, message = "Internal server error"),
+    })
+    @GetMapping("/my/scroll")
+    @PreAuthorize("hasRole('ANONYMOUS') or hasRole('USER') or hasRole('ADMIN')")
+    public @ResponseBody
+    ScrollResponse<OrderResponse> scrollMyOrders(@RequestParam(value = "cursor", required = false) final String cursor,
+                                                 @RequestParam(value = "size", defaultValue = "" + DEFAULT_SCROLL_SIZE) final int size) {
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
+        log.info("Receive scroll my orders request for id -> {}", userId);
+        return orderService.scrollMyOrders(cursor, size, userId);
+    }
+
     @ApiOperation(value = "Cancel order", notes = "All Roles", authorizations = {@Authorization("Bearer")})
     @ApiResponses({
             @ApiResponse(code = 201, message = "Order created successfully"),
@@ -91,7 +111,7 @@ public class OrderController {
     @PreAuthorize("hasRole('ANONYMOUS') or hasRole('USER') or hasRole('ADMIN')")
     public @ResponseBody
     Response<String> cancelOrder(@Valid @NotEmpty @PathVariable final UUID id) {
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
         log.info("Receive cancel order request for id -> {}", userId);
         orderService.cancelOrder(id);
         return generateSuccessResponse();
@@ -1,6 +1,8 @@
 package com.afj.solution.buyitapp.controller.api.v1;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
@@ -11,10 +13,13 @@ import io.swagger.annotations.ApiResponses;
 import io.swagger.annotations.Authorization;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -29,19 +34,30 @@ import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.afj.solution.buyitapp.common.Response;
+import com.afj.solution.buyitapp.model.product.ImageMetadata;
 import com.afj.solution.buyitapp.payload.request.AddRatingRequest;
 import com.afj.solution.buyitapp.payload.request.CreateProductRequest;
 import com.afj.solution.buyitapp.payload.request.UpdateCharacteristicRequest;
 import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.payload.response.ProductSuggestionResponse;
+import com.afj.solution.buyitapp.payload.response.ScrollResponse;
+import com.afj.solution.buyitapp.security.JwtPrincipal;
 import com.afj.solution.buyitapp.security.JwtTokenProvider;
+import com.afj.solution.buyitapp.service.product.ProductQueryService;
 import com.afj.solution.buyitapp.service.product.ProductRatingService;
 import com.afj.solution.buyitapp.service.product.ProductServiceImp;
 import com.afj.solution.buyitapp.service.product.RatingService;
+import com.afj.solution.buyitapp.service.storage.ImageVariant;
 
+import static com.afj.solution.buyitapp.constans.Patterns.DEFAULT_SCROLL_SIZE;
+import static com.afj.solution.buyitapp.constans.Patterns.DEFAULT_SUGGESTIONS;
 import static com.afj.solution.buyitapp.constans.Patterns.generateSuccessResponse;
+import static java.lang.String.format;
+import static java.util.Objects.nonNull;
 
 /**
  * @author Tomash Gombosh
@@ -51,17 +67,23 @@ import static com.afj.solution.buyitapp.constans.Patterns.generateSuccessRespons
 @RequestMapping(path = "/api/v1/products", produces = "application/json; charset=utf-8")
 public class ProductController {
 
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(7)).cachePrivate();
+
     private final ProductServiceImp productService;
 
+    private final ProductQueryService productQueryService;
+
     private final JwtTokenProvider jwtTokenProvider;
 
     private final RatingService ratingService;
 
     @Autowired
     public ProductController(final ProductServiceImp productService,
+                             final ProductQueryService productQueryService,
                              final JwtTokenProvider jwtTokenProvider,
                              final ProductRatingService ratingService) {
         this.productService = productService;
+        this.productQueryService = productQueryService;
         this.jwtTokenProvider = jwtTokenProvider;
         this.ratingService = ratingService;
     }
@@ -79,11 +101,43 @@ public class ProductController {
                                       @RequestParam(value = "title", required = false) final String title,
                                       @RequestParam(value = "description", required = false) final String description,
                                       @RequestHeader(value = "Accept-Language", defaultValue = "gb") final String language) {
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
         log.info("Get products request for id -> {}", userId);
         log.info("Get products by {}", pageable);
         log.info("Get products for language {}", language);
-        return productService.getProducts(pageable, language, categoryUuid, title, description);
+        return productQueryService.getProducts(pageable, language, categoryUuid, title, description);
+    }
+
+    @ApiOperation(value = "Scroll products", notes = "All Roles", authorizations = {@Authorization("Bearer")})
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Products returned successfully"),
+            @ApiResponse(code = 400, message = "Invalid cursor"),
+            @ApiResponse(code = 500, message = "Internal server error"),
+    })
+    @GetMapping("/scroll")
+    @PreAuthorize("hasRole('ANONYMOUS') or hasRole('USER') or hasRole('ADMIN')")
+    public @ResponseBody
+    ScrollResponse<ProductResponse> scrollProducts(@RequestParam(value = "cursor", required = false) final String cursor,
+                                                   @RequestParam(value = "size", defaultValue = "" + DEFAULT_SCROLL_SIZE) final int size,
+                                                   @RequestParam(value = "category", required = false) final UUID categoryUuid,
+                                                   @RequestHeader(value = "Accept-Language", defaultValue = "gb") final String language) {
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
+        log.info("Scroll products request for id -> {}", userId);
+        return productQueryService.scrollProducts(cursor, size, language, categoryUuid);
+    }
+
+    @ApiOperation(value = "Suggest products", notes = "All Roles", authorizations = {@Authorization("Bearer")})
+    @ApiResponses({
+            @ApiResponse(code = 200, message = "Suggestions returned successfully"),
+            @ApiResponse(code = 500, message = "Internal server error"),
+    })
+    @GetMapping("/suggest")
+    @PreAuthorize("hasRole('ANONYMOUS') or hasRole('USER') or hasRole('ADMIN')")
+    public @ResponseBody
+    List<ProductSuggestionResponse> suggestProducts(@RequestParam(value = "q") final String query,
+                                                    @RequestParam(value = "limit", defaultValue = "" + DEFAULT_SUGGESTIONS) final int limit) {
+        log.debug("Suggest products for {}", query);
+        return productQueryService.suggestProducts(query, limit);
     }
 
     @ApiOperation(value = "Get product image", notes = "All Roles", authorizations = {@Authorization("Bearer")})
@@ -94,12 +148,28 @@ public class ProductController {
     })
     @GetMapping(value = "/{id}/image", produces = {MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE})
     @PreAuthorize("hasRole('ANONYMOUS') or hasRole('USER') or hasRole('ADMIN')")
-    public @ResponseBody
-    byte[] getImage(@Valid @NotEmpty @PathVariable final UUID id) {
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
+    public ResponseEntity<Resource> getImage(@Valid @NotEmpty @PathVariable final UUID id,
+                                             @RequestParam(value = "size", defaultValue = "original") final String size,
+                                             final WebRequest request) throws IOException {
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
         log.info("Get an image request for id -> {}", userId);
-        log.info("Get an image for product {}", id);
-        return productService.getImageByProductId(id);
+        log.info("Get an image with size {} for product {}", size, id);
+        final ImageMetadata image = productService.getImageMetadata(id);
+        final ImageVariant variant = productService.getImageVariant(image, size);
+        final String etag = format("\"%s-%s\"", image.checksum(), variant.getValue());
+        final long lastModified = nonNull(image.updatedAt()) ? image.updatedAt().toInstant().toEpochMilli() : -1;
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(IMAGE_CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(IMAGE_CACHE_CONTROL)
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .body(productService.getImage(image, variant));
     }
 
     @ApiOperation(value = "Create a new product", notes = "User, Admin Roles", authorizations = {@Authorization("Bearer")})
@@ -113,10 +183,9 @@ public class ProductController {
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public @ResponseBody
     Response<String> createProduct(@Valid @RequestBody final CreateProductRequest createProductRequest) {
-        final String username = jwtTokenProvider.getUsernameFromToken(jwtTokenProvider.getToken().substring(7));
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
-        log.info("Receive create request from username -> {}", username);
-        productService.save(createProductRequest, userId);
+        final JwtPrincipal principal = jwtTokenProvider.getPrincipal();
+        log.info("Receive create request from username -> {}", principal.username());
+        productService.save(createProductRequest, principal.id());
         return generateSuccessResponse();
     }
 
@@ -131,7 +200,7 @@ public class ProductController {
     public @ResponseBody
     Response<String> updateProductQuantity(@Valid @NotEmpty @PathVariable final UUID id,
                                            @RequestParam("count") final int count) {
-        final String username = jwtTokenProvider.getUsernameFromToken(jwtTokenProvider.getToken().substring(7));
+        final String username = jwtTokenProvider.getPrincipal().username();
         log.info("Receive update quantity of product {} request from username -> {}", id, username);
         productService.increaseProductQuantity(id, count);
         return generateSuccessResponse();
@@ -148,7 +217,7 @@ public class ProductController {
     public @ResponseBody
     Response<String> updateProductCharacteristic(@Valid @NotEmpty @PathVariable final UUID id,
                                                  @RequestBody final UpdateCharacteristicRequest updateCharacteristicRequest) {
-        final String username = jwtTokenProvider.getUsernameFromToken(jwtTokenProvider.getToken().substring(7));
+        final String username = jwtTokenProvider.getPrincipal().username();
         log.info("Receive update characteristic of product {} request from username -> {}", id, username);
         productService.updateCharacteristicToProduct(id, updateCharacteristicRequest);
         return generateSuccessResponse();
@@ -168,7 +237,7 @@ public class ProductController {
     public @ResponseBody
     ProductResponse addImageToProduct(@Valid @NotEmpty @PathVariable final UUID id,
                                       @RequestPart("file") final MultipartFile file) throws IOException {
-        final String username = jwtTokenProvider.getUsernameFromToken(jwtTokenProvider.getToken().substring(7));
+        final String username = jwtTokenProvider.getPrincipal().username();
         log.info("Upload an image for product {} by username -> {}", id, username);
         return productService.addImageToProduct(id, file);
     }
@@ -185,11 +254,12 @@ public class ProductController {
     public @ResponseBody
     Page<ProductResponse> getMyProducts(final Pageable pageable,
                                         @RequestParam(value = "title", required = false) final String title,
-                                        @RequestParam(value = "description", required = false) final String description) {
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
+                                        @RequestParam(value = "description", required = false) final String description,
+                                        @RequestHeader(value = "Accept-Language", defaultValue = "gb") final String language) {
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
         log.info("Get products request for id -> {}", userId);
         log.info("Get products by {}", pageable);
-        return productService.getMyProducts(pageable, userId, title, description);
+        return productQueryService.getMyProducts(pageable, userId, language, title, description);
     }
 
     @ApiOperation(value = "Get product by id", notes = "Anonymous, User, Admin Roles", authorizations = {@Authorization("Bearer")})
@@ -203,7 +273,7 @@ public class ProductController {
     public @ResponseBody
     ProductResponse getProductById(@Valid @NotEmpty @PathVariable final UUID id,
                                    @RequestHeader(value = "Accept-Language", defaultValue = "gb") final String language) {
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
         log.info("Get product {} request for user id -> {}", id, userId);
         return productService.getProductById(id, language);
     }
@@ -220,7 +290,7 @@ public class ProductController {
     public @ResponseBody
     Response<String> addRatingToProduct(@Valid @NotEmpty @PathVariable final UUID id,
                                         @RequestBody final AddRatingRequest request) {
-        final UUID userId = jwtTokenProvider.getUuidFromToken(jwtTokenProvider.getToken().substring(7));
+        final UUID userId = jwtTokenProvider.getPrincipal().id();
         log.info("Add rating {} to product request for user id -> {}", request, userId);
         ratingService.addRating(request.star(), id, userId);
         return generateSuccessResponse();
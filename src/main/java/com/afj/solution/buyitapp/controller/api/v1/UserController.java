@@ -24,6 +24,7 @@ import com.afj.solution.buyitapp.common.Response;
 import com.afj.solution.buyitapp.payload.request.CreateUserRequest;
 import com.afj.solution.buyitapp.payload.request.UpdateUserRequest;
 import com.afj.solution.buyitapp.payload.response.UserResponse;
+import com.afj.solution.buyitapp.security.JwtPrincipal;
 import com.afj.solution.buyitapp.security.JwtTokenProvider;
 import com.afj.solution.buyitapp.service.user.UserServiceImpl;
 
@@ -58,10 +59,10 @@ public class UserController {
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public @ResponseBody
     UserResponse me() {
-        final String token = jwtTokenProvider.getToken().substring(7);
-        final UUID userId = jwtTokenProvider.getUuidFromToken(token);
+        final JwtPrincipal principal = jwtTokenProvider.getPrincipal();
+        final UUID userId = principal.id();
         log.info("Receive 'ME' request for user with username {} and id {}",
-                jwtTokenProvider.getUsernameFromToken(token), userId);
+                principal.username(), userId);
         return userService.getMe(userId);
     }
 
@@ -76,9 +77,12 @@ public class UserController {
     @PreAuthorize("hasRole('ANONYMOUS')")
     public @ResponseBody
     Response<String> create(@Valid @RequestBody final CreateUserRequest createUserRequest) {
-        final String token = jwtTokenProvider.getToken().substring(7);
-        final UUID userId = jwtTokenProvider.getUuidFromToken(token);
-        log.info("Registration an user for id {} with data({})", userId, createUserRequest);
+        final JwtPrincipal principal = jwtTokenProvider.getPrincipal();
+        final UUID userId = principal.id();
+        log.info("Registration an user for id {}", userId);
+        if (log.isDebugEnabled()) {
+            log.debug("Registration data {}", createUserRequest);
+        }
         userService.createUser(createUserRequest, userId);
         return generateSuccessResponse();
     }
@@ -94,8 +98,8 @@ public class UserController {
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     public @ResponseBody
     Response<String> updateCurrentUser(@Valid @RequestBody final UpdateUserRequest updateUserRequest) {
-        final String token = jwtTokenProvider.getToken().substring(7);
-        final UUID userId = jwtTokenProvider.getUuidFromToken(token);
+        final JwtPrincipal principal = jwtTokenProvider.getPrincipal();
+        final UUID userId = principal.id();
         userService.updateUser(userId, updateUserRequest);
         return generateSuccessResponse();
     }
@@ -1,22 +1,34 @@
 package com.afj.solution.buyitapp.exception;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import com.afj.solution.buyitapp.common.LogRateLimiter;
 import com.afj.solution.buyitapp.common.Response;
+import com.afj.solution.buyitapp.service.localize.ErrorResponseCache;
 
+import static com.afj.solution.buyitapp.common.LogRateLimiter.SUPPRESSED;
 import static com.afj.solution.buyitapp.constans.Patterns.STATUS_FAILED;
 import static com.afj.solution.buyitapp.constans.Patterns.generateErrorResponse;
+import static com.afj.solution.buyitapp.service.localize.ErrorResponseCache.SERVICE_BUSY;
+import static com.afj.solution.buyitapp.service.localize.ErrorResponseCache.UNAUTHORIZED;
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 
 /**
  * @author Tomash Gombosh
@@ -25,39 +37,65 @@ import static java.lang.String.format;
 @ControllerAdvice
 public class ErrorControllerAdvice {
 
-    @ResponseBody
-    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final ErrorResponseCache errorResponses;
+    private final LogRateLimiter logRateLimiter = new LogRateLimiter(Duration.ofSeconds(10));
+
+    @Autowired
+    public ErrorControllerAdvice(final ErrorResponseCache errorResponses) {
+        this.errorResponses = errorResponses;
+    }
+
     @ExceptionHandler(CustomAuthenticationException.class)
-    public Response<String> customAuthenticationExceptionHandler(final CustomAuthenticationException ex) {
-        return generateErrorResponse(ex);
+    public ResponseEntity<byte[]> customAuthenticationExceptionHandler(final CustomAuthenticationException ex) {
+        final long suppressed = logRateLimiter.acquire("401");
+        if (suppressed != SUPPRESSED) {
+            log.warn("Status -> 401, message -> {} ({} similar suppressed)", ex.getMessage(), suppressed);
+        }
+        final byte[] response = isNull(ex.getMessage())
+                ? errorResponses.getResponse(UNAUTHORIZED)
+                : errorResponses.getMessageResponse(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .body(response);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<byte[]> serviceUnavailableExceptionHandler(final ServiceUnavailableException ex) {
+        log.debug("Status -> 503, message -> {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .contentType(new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8))
+                .body(errorResponses.getResponse(SERVICE_BUSY));
     }
 
     @ResponseBody
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(EntityAlreadyExistsException.class)
     public Response<String> entityAlreadyExistsExceptionHandler(final EntityAlreadyExistsException ex) {
-        return generateErrorResponse(ex);
+        return toResponse(ex);
     }
 
     @ResponseBody
     @ResponseStatus(HttpStatus.NOT_FOUND)
     @ExceptionHandler(EntityNotFoundException.class)
     public Response<String> entityNotFoundExceptionHandler(final EntityNotFoundException ex) {
-        return generateErrorResponse(ex);
+        return toResponse(ex);
     }
 
     @ResponseBody
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(BadRequestException.class)
     public Response<String> badRequestExceptionHandler(final BadRequestException ex) {
-        return generateErrorResponse(ex);
+        return toResponse(ex);
     }
 
     @ResponseBody
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler({NullPointerException.class, IOException.class})
     public Response<String> generalExceptionHandling(final Exception ex) {
-        return generateErrorResponse(ex);
+        return toResponse(ex);
     }
 
     @ResponseBody
@@ -76,4 +114,10 @@ public class ErrorControllerAdvice {
         return new Response<>(STATUS_FAILED, errors);
     }
 
+    private Response<String> toResponse(final Exception ex) {
+        final Response<String> response = generateErrorResponse(ex);
+        log.error("Exception -> {}, error -> {}", ex.getMessage(), response.getError().get(0).getMessage());
+        return response;
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.afj.solution.buyitapp.exception;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * @author Tomash Gombosh
+ */
+public class ServiceUnavailableException extends RuntimeException implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4518296734013365781L;
+
+    public ServiceUnavailableException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,72 @@
+package com.afj.solution.buyitapp.model;
+
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.function.Consumer;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Type;
+
+import com.afj.solution.buyitapp.model.enums.Currency;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "order_line")
+@ToString
+public class OrderLine implements Serializable {
+
+    private static final long serialVersionUID = -6011931337486129431L;
+
+    @Id
+    @Type(type = "uuid-binary")
+    @GeneratedValue(generator = "UUID")
+    @GenericGenerator(name = "uuid", strategy = "org.hibernate.id.UUIDGenerator")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "order_id", updatable = false, nullable = false)
+    private Order order;
+
+    @Type(type = "uuid-binary")
+    @Column(name = "product_id", updatable = false, nullable = false)
+    private UUID productId;
+
+    @Column(name = "quantity", updatable = false, nullable = false)
+    private int quantity;
+
+    @Column(name = "unit_price", updatable = false, nullable = false)
+    private float unitPrice;
+
+    @Column(name = "currency", updatable = false)
+    @Enumerated(EnumType.STRING)
+    private Currency currency;
+
+    public OrderLine(final Consumer<OrderLine> builder) {
+        requireNonNull(builder).accept(this);
+    }
+}
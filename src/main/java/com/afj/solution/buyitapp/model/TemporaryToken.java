@@ -14,15 +14,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import static com.afj.solution.buyitapp.constans.Patterns.GSON;
 import static java.util.Objects.requireNonNull;
 
-
 /**
  * @author Tommash Gombosh
  */
@@ -31,6 +30,7 @@ import static java.util.Objects.requireNonNull;
 @NoArgsConstructor
 @Getter
 @Setter
+@ToString
 @Entity
 @Table(name = "temporary_token")
 public class TemporaryToken implements Serializable {
@@ -60,9 +60,4 @@ public class TemporaryToken implements Serializable {
         requireNonNull(builder).accept(this);
     }
 
-    @Override
-    public String toString() {
-        return GSON.toJson(this);
-    }
-
 }
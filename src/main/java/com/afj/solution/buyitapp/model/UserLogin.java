@@ -14,12 +14,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import static com.afj.solution.buyitapp.constans.Patterns.GSON;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -29,6 +29,7 @@ import static java.util.Objects.requireNonNull;
 @NoArgsConstructor
 @Getter
 @Setter
+@ToString
 @Entity
 @Table(name = "user_login_events")
 public class UserLogin implements Serializable {
@@ -60,9 +61,4 @@ public class UserLogin implements Serializable {
     public UserLogin(final Consumer<UserLogin> builder) {
         requireNonNull(builder).accept(this);
     }
-
-    @Override
-    public String toString() {
-        return GSON.toJson(this);
-    }
 }
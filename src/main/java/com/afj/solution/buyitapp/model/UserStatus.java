@@ -0,0 +1,9 @@
+package com.afj.solution.buyitapp.model;
+
+import java.util.UUID;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record UserStatus(UUID id, boolean enabled, boolean accountNonLocked) {
+}
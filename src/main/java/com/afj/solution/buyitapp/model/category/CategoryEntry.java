@@ -0,0 +1,10 @@
+package com.afj.solution.buyitapp.model.category;
+
+import java.util.UUID;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record CategoryEntry(UUID id,
+                            String name) {
+}
@@ -0,0 +1,13 @@
+package com.afj.solution.buyitapp.model.category;
+
+import java.util.UUID;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record CategoryLocalizationEntry(UUID categoryId,
+                                        UUID subCategoryId,
+                                        String locale,
+                                        String name,
+                                        String description) {
+}
@@ -8,7 +8,6 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
-import javax.persistence.Lob;
 import javax.persistence.OneToOne;
 import javax.persistence.Table;
 
@@ -50,9 +49,17 @@ public class Image implements Serializable {
     @Column(name = "file_name")
     private String fileName;
 
-    @Lob
-    @Column(name = "picture")
-    private byte[] picture;
+    @Column(name = "storage_key")
+    private String storageKey;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "content_length")
+    private Long contentLength;
+
+    @Column(name = "checksum")
+    private String checksum;
 
     @JsonBackReference
     @OneToOne(fetch = EAGER, cascade = ALL, mappedBy = "image")
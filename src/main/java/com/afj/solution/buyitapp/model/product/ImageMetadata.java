@@ -0,0 +1,16 @@
+package com.afj.solution.buyitapp.model.product;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record ImageMetadata(UUID id,
+                            String fileName,
+                            String storageKey,
+                            String contentType,
+                            Long contentLength,
+                            String checksum,
+                            ZonedDateTime updatedAt) {
+}
@@ -2,7 +2,9 @@ package com.afj.solution.buyitapp.model.product;
 
 import java.io.Serializable;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -27,12 +29,14 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.DomainEvents;
 
 import com.afj.solution.buyitapp.model.User;
 import com.afj.solution.buyitapp.model.category.Category;
 import com.afj.solution.buyitapp.model.category.SubCategory;
 import com.afj.solution.buyitapp.model.enums.Currency;
 
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 import static javax.persistence.CascadeType.ALL;
 import static javax.persistence.FetchType.EAGER;
@@ -73,6 +77,12 @@ public class Product implements Serializable {
     @Column(name = "quantity")
     private int quantity;
 
+    @Column(name = "rating_count", insertable = false, updatable = false)
+    private int ratingCount;
+
+    @Column(name = "rating_sum", insertable = false, updatable = false)
+    private long ratingSum;
+
     @Column(name = "created_at", updatable = false, nullable = false)
     @CreationTimestamp
     private ZonedDateTime createdAt;
@@ -113,10 +123,23 @@ public class Product implements Serializable {
         requireNonNull(builder).accept(this);
     }
 
+    /**
+     * Published by the repository after every save, the search index picks it up once the transaction commits.
+     */
+    @DomainEvents
+    Collection<ProductSearchDocument> searchDocuments() {
+        return List.of(new ProductSearchDocument(this.getId(),
+                this.getName(),
+                this.getDescription(),
+                nonNull(this.getCategory()) ? this.getCategory().getId() : null,
+                nonNull(this.getSubCategory()) ? this.getSubCategory().getId() : null,
+                nonNull(this.getUser()) ? this.getUser().getId() : null));
+    }
+
     @Override
     public String toString() {
         return String.format("{ \"id\": \"%s\", \"name\": \"%s\", \"description\": \"%s\", \"price\": \"%s\", "
-                        + "\"currency\": \"%s\", \"image\": \"%s\", \"characteristic\": \"%s\", \"user\": \"%s\","
+                        + "\"currency\": \"%s\", \"image\": \"%s\", \"characteristic\": \"%s\", \"userId\": \"%s\","
                         + " \"created_at\": \"%s\", \"updated_at\": \"%s\" }",
                 this.getId(),
                 this.getName(),
@@ -125,7 +148,7 @@ public class Product implements Serializable {
                 this.getCurrency(),
                 this.getImage(),
                 this.getCharacteristic(),
-                this.getUser(),
+                nonNull(this.getUser()) ? this.getUser().getId() : null,
                 this.getCreatedAt(),
                 this.getUpdatedAt());
     }
@@ -0,0 +1,34 @@
+package com.afj.solution.buyitapp.model.product;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import com.afj.solution.buyitapp.model.enums.Currency;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record ProductListing(UUID id,
+                             String name,
+                             String description,
+                             float price,
+                             Currency currency,
+                             int quantity,
+                             UUID imageId,
+                             String imageName,
+                             UUID characteristicId,
+                             String size,
+                             String color,
+                             String additionalParams,
+                             UUID userId,
+                             String firstName,
+                             String lastName,
+                             String email,
+                             String phoneNumber,
+                             String homeAddress,
+                             UUID categoryId,
+                             UUID subCategoryId,
+                             int ratingCount,
+                             long ratingSum,
+                             ZonedDateTime createdAt) {
+}
@@ -0,0 +1,14 @@
+package com.afj.solution.buyitapp.model.product;
+
+import java.util.UUID;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record ProductSearchDocument(UUID id,
+                                    String name,
+                                    String description,
+                                    UUID categoryId,
+                                    UUID subCategoryId,
+                                    UUID userId) {
+}
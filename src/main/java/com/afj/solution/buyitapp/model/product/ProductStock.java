@@ -0,0 +1,15 @@
+package com.afj.solution.buyitapp.model.product;
+
+import java.util.UUID;
+
+import com.afj.solution.buyitapp.model.enums.Currency;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record ProductStock(UUID id,
+                           String name,
+                           float price,
+                           Currency currency,
+                           int quantity) {
+}
@@ -0,0 +1,12 @@
+package com.afj.solution.buyitapp.model.product;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record RatingSummary(int count,
+                            long sum) {
+
+    public double average() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+}
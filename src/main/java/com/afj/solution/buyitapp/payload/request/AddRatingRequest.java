@@ -6,8 +6,6 @@ import javax.validation.constraints.Min;
 import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 
-import static com.afj.solution.buyitapp.constans.Patterns.GSON;
-
 /**
  * @author Tomash Gombosh
  */
@@ -24,8 +22,4 @@ public record AddRatingRequest(
         @Max(value = 5, message = "error.int.max")
         int star
 ) {
-    @Override
-    public String toString() {
-        return GSON.toJson(this);
-    }
 }
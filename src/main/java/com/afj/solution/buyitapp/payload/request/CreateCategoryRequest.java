@@ -11,14 +11,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-
-import static com.afj.solution.buyitapp.constans.Patterns.GSON;
+import lombok.ToString;
 
 /**
  * @author Kristian Gombosh
  */
 @Getter
 @Setter
+@ToString
 @AllArgsConstructor
 @NoArgsConstructor
 @ApiModel(value = "CreateCategoryRequest", description = "Create category request model")
@@ -65,9 +65,4 @@ public class CreateCategoryRequest implements Serializable {
     )
     @NotEmpty
     private String subCategoryDescription;
-
-    @Override
-    public String toString() {
-        return GSON.toJson(this);
-    }
 }
@@ -16,16 +16,16 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 import com.afj.solution.buyitapp.model.enums.Currency;
 
-import static com.afj.solution.buyitapp.constans.Patterns.GSON;
-
 /**
  * @author Tomash Gombosh
  */
 @Getter
 @Setter
+@ToString
 @AllArgsConstructor
 @NoArgsConstructor
 @ApiModel(value = "CreateProductRequest", description = "Create product request model")
@@ -100,9 +100,4 @@ public class CreateProductRequest implements Serializable {
     )
     @NotNull
     private UUID subCategoryId;
-
-    @Override
-    public String toString() {
-        return GSON.toJson(this);
-    }
 }
@@ -14,16 +14,16 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 
 import com.afj.solution.buyitapp.common.Adapters;
 
-import static com.afj.solution.buyitapp.constans.Patterns.GSON;
-
 /**
  * @author Kristian Gombosh
  */
 @Getter
 @Setter
+@ToString
 @AllArgsConstructor
 @NoArgsConstructor
 @ApiModel(value = "CreateUserRequest", description = "Create user request model")
@@ -71,7 +71,6 @@ public class CreateUserRequest implements Serializable {
     @Email(message = "error.value.email")
     private String email;
 
-
     @ApiModelProperty(
             name = "password",
             dataType = "String",
@@ -80,6 +79,7 @@ public class CreateUserRequest implements Serializable {
             required = true
     )
     @NotEmpty(message = "error.value.string.not-empty")
+    @ToString.Exclude
     private String password;
 
     @ApiModelProperty(
@@ -116,9 +116,4 @@ public class CreateUserRequest implements Serializable {
     )
     @JsonDeserialize(using = Adapters.ZonedDateTimeDeserializer.class)
     private ZonedDateTime dateOfBirth;
-
-    @Override
-    public String toString() {
-        return GSON.toJson(this);
-    }
 }
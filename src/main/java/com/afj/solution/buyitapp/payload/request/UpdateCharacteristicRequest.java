@@ -10,14 +10,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-
-import static com.afj.solution.buyitapp.constans.Patterns.GSON;
+import lombok.ToString;
 
 /**
  * @author Tomash Gombosh
  */
 @Getter
 @Setter
+@ToString
 @AllArgsConstructor
 @NoArgsConstructor
 @ApiModel(value = "UpdateCharacteristicRequest", description = "Update characteristic request")
@@ -52,9 +52,4 @@ public class UpdateCharacteristicRequest implements Serializable {
     )
     @Size(max = 255)
     private String additionalParams;
-
-    @Override
-    public String toString() {
-        return GSON.toJson(this);
-    }
 }
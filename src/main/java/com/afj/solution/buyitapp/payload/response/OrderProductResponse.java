@@ -0,0 +1,70 @@
+package com.afj.solution.buyitapp.payload.response;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import com.afj.solution.buyitapp.model.enums.Currency;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ApiModel(value = "OrderProductResponse", description = "Product in the order response")
+public class OrderProductResponse implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3470145513869426583L;
+
+    @ApiModelProperty(
+            name = "id",
+            dataType = "String",
+            value = "Product id"
+    )
+    private UUID id;
+
+    @ApiModelProperty(
+            name = "name",
+            dataType = "String",
+            value = "Product name"
+    )
+    private String name;
+
+    @ApiModelProperty(
+            name = "price",
+            dataType = "float",
+            value = "Product price at the time of the order"
+    )
+    private float price;
+
+    @ApiModelProperty(
+            name = "currency",
+            dataType = "Currency",
+            value = "Product price currency"
+    )
+    private Currency currency;
+
+    @ApiModelProperty(
+            name = "quantity",
+            dataType = "int",
+            value = "Ordered quantity of the product"
+    )
+    private int quantity;
+
+    public OrderProductResponse(final Consumer<OrderProductResponse> builder) {
+        requireNonNull(builder).accept(this);
+    }
+}
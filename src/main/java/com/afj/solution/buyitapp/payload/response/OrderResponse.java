@@ -16,7 +16,6 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import com.afj.solution.buyitapp.model.enums.OrderStatus;
-import com.afj.solution.buyitapp.model.product.Product;
 
 import static java.util.Objects.requireNonNull;
 
@@ -46,7 +45,7 @@ public class OrderResponse implements Serializable {
             dataType = "Object",
             value = "Set of the products in the order"
     )
-    private Set<Product> products;
+    private Set<OrderProductResponse> products;
 
     @ApiModelProperty(
             name = "total",
@@ -0,0 +1,27 @@
+package com.afj.solution.buyitapp.payload.response;
+
+import java.util.UUID;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+/**
+ * @author Tomash Gombosh
+ */
+@ApiModel(value = "ProductSuggestionResponse", description = "Product name suggestion")
+public record ProductSuggestionResponse(
+        @ApiModelProperty(
+                name = "id",
+                dataType = "String",
+                value = "Product Id",
+                example = "90656410-8926-483e-ace2-57f0e2131515"
+        )
+        UUID id,
+        @ApiModelProperty(
+                name = "name",
+                dataType = "String",
+                value = "Product name",
+                example = "Flower"
+        )
+        String name) {
+}
@@ -0,0 +1,39 @@
+package com.afj.solution.buyitapp.payload.response;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ApiModel(value = "ScrollResponse", description = "Page of the items with the cursor of the next page")
+public class ScrollResponse<T> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 5102475468301893652L;
+
+    @ApiModelProperty(
+            name = "items",
+            value = "Items of the page"
+    )
+    private List<T> items;
+
+    @ApiModelProperty(
+            name = "next",
+            dataType = "String",
+            value = "Cursor of the next page, empty on the last page"
+    )
+    private String next;
+}
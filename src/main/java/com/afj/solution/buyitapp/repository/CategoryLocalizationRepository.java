@@ -1,15 +1,22 @@
 package com.afj.solution.buyitapp.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.afj.solution.buyitapp.model.category.CategoryLocalization;
+import com.afj.solution.buyitapp.model.category.CategoryLocalizationEntry;
 
 /**
  * @author Kristian Gombosh
  */
 @Repository
 public interface CategoryLocalizationRepository extends JpaRepository<CategoryLocalization, UUID> {
+
+    @Query("SELECT new com.afj.solution.buyitapp.model.category.CategoryLocalizationEntry(c.id, s.id, l.locale, l.name, l.description)"
+            + " FROM CategoryLocalization l LEFT JOIN l.category c LEFT JOIN l.subCategory s")
+    List<CategoryLocalizationEntry> findAllEntries();
 }
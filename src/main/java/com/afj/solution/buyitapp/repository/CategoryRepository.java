@@ -1,12 +1,15 @@
 package com.afj.solution.buyitapp.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.afj.solution.buyitapp.model.category.Category;
+import com.afj.solution.buyitapp.model.category.CategoryEntry;
 
 /**
  * @author Tomash Gombosh
@@ -15,4 +18,7 @@ import com.afj.solution.buyitapp.model.category.Category;
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
 
     Optional<Category> findByName(String categoryName);
+
+    @Query("SELECT new com.afj.solution.buyitapp.model.category.CategoryEntry(c.id, c.name) FROM Category c")
+    List<CategoryEntry> findAllEntries();
 }
@@ -0,0 +1,35 @@
+package com.afj.solution.buyitapp.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.afj.solution.buyitapp.model.product.Image;
+import com.afj.solution.buyitapp.model.product.ImageMetadata;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Repository
+public interface ImageRepository extends JpaRepository<Image, UUID> {
+
+    @Query("SELECT new com.afj.solution.buyitapp.model.product.ImageMetadata(i.id, i.fileName, i.storageKey, i.contentType,"
+            + " i.contentLength, i.checksum, i.updatedAt) FROM Product p JOIN p.image i WHERE p.id = :product")
+    Optional<ImageMetadata> findMetadataByProductId(@Param("product") UUID productId);
+
+    @Query(value = "SELECT picture FROM image WHERE id = :id", nativeQuery = true)
+    byte[] findLegacyPictureById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE image SET storage_key = :key, content_type = :contentType, content_length = :contentLength,"
+            + " checksum = :checksum, picture = NULL WHERE id = :id", nativeQuery = true)
+    int moveLegacyPicture(@Param("id") UUID id, @Param("key") String key, @Param("contentType") String contentType,
+                          @Param("contentLength") long contentLength, @Param("checksum") String checksum);
+}
@@ -1,10 +1,14 @@
 package com.afj.solution.buyitapp.repository;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.afj.solution.buyitapp.model.Order;
@@ -16,4 +20,9 @@ import com.afj.solution.buyitapp.model.Order;
 public interface OrderRepository extends JpaRepository<Order, UUID> {
 
     Page<Order> findAllByUserId(Pageable pageable, UUID userId);
+
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId and (:createdAt is null or o.createdAt < :createdAt"
+            + " or (o.createdAt = :createdAt and o.id < :id)) ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findAllByUserIdAfter(Pageable pageable, @Param("userId") UUID userId, @Param("createdAt") ZonedDateTime createdAt,
+                                     @Param("id") UUID id);
 }
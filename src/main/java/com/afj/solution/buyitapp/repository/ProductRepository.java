@@ -1,16 +1,25 @@
 package com.afj.solution.buyitapp.repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.afj.solution.buyitapp.model.User;
 import com.afj.solution.buyitapp.model.product.Product;
+import com.afj.solution.buyitapp.model.product.ProductListing;
+import com.afj.solution.buyitapp.model.product.ProductSearchDocument;
+import com.afj.solution.buyitapp.model.product.ProductStock;
+import com.afj.solution.buyitapp.model.product.RatingSummary;
 
 /**
  * @author Tomash Gombosh
@@ -18,13 +27,67 @@ import com.afj.solution.buyitapp.model.product.Product;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID> {
 
-    @Query("SELECT c FROM Product c WHERE (c.user = :user) and (:name is null or c.name like %:name%) and (:description is null"
-            + " or c.description like %:description%)")
-    Page<Product> findAllByUserAndNameAndDescription(Pageable pageable, @Param("user") User user,
-                                                     @Param("name") String name, @Param("description") String description);
+    String LISTING_SELECT = "SELECT new com.afj.solution.buyitapp.model.product.ProductListing(p.id, p.name, p.description, p.price,"
+            + " p.currency, p.quantity, i.id, i.fileName, ch.id, ch.size, ch.color, ch.additionalParams, u.id, u.firstName, u.lastName,"
+            + " u.email, u.phoneNumber, u.homeAddress, p.category.id, p.subCategory.id, p.ratingCount, p.ratingSum,"
+            + " p.createdAt)"
+            + " FROM Product p JOIN p.user u LEFT JOIN p.image i LEFT JOIN p.characteristic ch";
 
-    @Query("SELECT c FROM Product c WHERE (:name is null or c.name like %:name%) and (:description is null"
-            + " or c.description like %:description%)")
-    Page<Product> findAllByNameAndDescription(Pageable pageable, @Param("name") String name, @Param("description") String description);
+    String CATEGORY_FILTER = " (p.category.id = :category or p.subCategory.id = :category)";
 
+    String NAME_AND_DESCRIPTION_FILTER = " (:category is null or" + CATEGORY_FILTER + ") and (:user is null or p.user.id = :user)"
+            + " and (:name is null or p.name like %:name%) and (:description is null or p.description like %:description%)";
+
+    String SCROLL_FILTER = " (:createdAt is null or p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))"
+            + " ORDER BY p.createdAt DESC, p.id DESC";
+
+    @Query(value = LISTING_SELECT, countQuery = "SELECT count(p) FROM Product p")
+    Page<ProductListing> findListing(Pageable pageable);
+
+    @Query(value = LISTING_SELECT + " WHERE" + CATEGORY_FILTER,
+            countQuery = "SELECT count(p) FROM Product p WHERE" + CATEGORY_FILTER)
+    Page<ProductListing> findListingByCategory(Pageable pageable, @Param("category") UUID category);
+
+    @Query(value = LISTING_SELECT + " WHERE u.id = :user",
+            countQuery = "SELECT count(p) FROM Product p WHERE p.user.id = :user")
+    Page<ProductListing> findListingByUser(Pageable pageable, @Param("user") UUID user);
+
+    @Query(value = LISTING_SELECT + " WHERE" + NAME_AND_DESCRIPTION_FILTER,
+            countQuery = "SELECT count(p) FROM Product p WHERE" + NAME_AND_DESCRIPTION_FILTER)
+    Page<ProductListing> findListingByNameAndDescription(Pageable pageable, @Param("category") UUID category,
+                                                         @Param("user") UUID user, @Param("name") String name,
+                                                         @Param("description") String description);
+
+    @Query(LISTING_SELECT + " WHERE p.id IN :ids")
+    List<ProductListing> findListingByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query(LISTING_SELECT + " WHERE (:category is null or" + CATEGORY_FILTER + ") and" + SCROLL_FILTER)
+    List<ProductListing> findListingAfter(Pageable pageable, @Param("category") UUID category,
+                                          @Param("createdAt") ZonedDateTime createdAt, @Param("id") UUID id);
+
+    @Query("SELECT new com.afj.solution.buyitapp.model.product.ProductSearchDocument(p.id, p.name, p.description,"
+            + " p.category.id, p.subCategory.id, p.user.id) FROM Product p")
+    List<ProductSearchDocument> findAllSearchDocuments();
+
+    @Query("SELECT new com.afj.solution.buyitapp.model.product.ProductStock(p.id, p.name, p.price, p.currency, p.quantity)"
+            + " FROM Product p WHERE p.id IN :ids")
+    List<ProductStock> findStockByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :count WHERE p.id IN :ids AND p.quantity >= :count")
+    int decreaseQuantity(@Param("ids") Collection<UUID> ids, @Param("count") int count);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :count WHERE p.id = :id")
+    int increaseQuantity(@Param("id") UUID id, @Param("count") int count);
+
+    @Query("SELECT new com.afj.solution.buyitapp.model.product.RatingSummary(p.ratingCount, p.ratingSum) FROM Product p WHERE p.id = :id")
+    Optional<RatingSummary> findRatingSummaryById(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Product p SET p.ratingCount = p.ratingCount + 1, p.ratingSum = p.ratingSum + :star WHERE p.id = :id")
+    int addRating(@Param("id") UUID id, @Param("star") int star);
 }
@@ -12,4 +12,6 @@ import com.afj.solution.buyitapp.model.product.Rating;
  */
 @Repository
 public interface RatingRepository extends JpaRepository<Rating, UUID> {
+
+    boolean existsByProductIdAndUserId(UUID productId, UUID userId);
 }
@@ -4,7 +4,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.afj.solution.buyitapp.model.UserLogin;
 
@@ -15,4 +19,14 @@ import com.afj.solution.buyitapp.model.UserLogin;
 public interface UserLoginRepository extends JpaRepository<UserLogin, UUID> {
 
     Optional<UserLogin> findByUserId(UUID userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserLogin l SET l.total = l.total - :count WHERE l.userId = :userId AND l.total >= :count")
+    int decreaseTotal(@Param("userId") UUID userId, @Param("count") int count);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserLogin l SET l.total = :total WHERE l.userId = :userId")
+    int updateTotal(@Param("userId") UUID userId, @Param("total") int total);
 }
@@ -4,9 +4,12 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.afj.solution.buyitapp.model.User;
+import com.afj.solution.buyitapp.model.UserStatus;
 
 /**
  * @author Tomash Gombosh
@@ -19,4 +22,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsernameAndEmail(String username, String email);
 
     Optional<User> findByUsernameOrEmail(String username, String email);
+
+    @Query("SELECT new com.afj.solution.buyitapp.model.UserStatus(u.id, u.enabled, u.accountNonLocked) FROM User u WHERE u.id = :id")
+    Optional<UserStatus> findStatusById(@Param("id") UUID id);
 }
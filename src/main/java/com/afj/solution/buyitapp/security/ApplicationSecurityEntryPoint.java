@@ -1,32 +1,56 @@
 package com.afj.solution.buyitapp.security;
 
 import java.io.IOException;
+import java.time.Duration;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.stereotype.Component;
 
-import static com.afj.solution.buyitapp.constans.Patterns.generateAccessDeniedErrorResponse;
-import static com.afj.solution.buyitapp.constans.Patterns.generateUnAuthorizedErrorResponse;
+import com.afj.solution.buyitapp.common.LogRateLimiter;
+import com.afj.solution.buyitapp.service.localize.ErrorResponseCache;
+
+import static com.afj.solution.buyitapp.common.LogRateLimiter.SUPPRESSED;
+import static com.afj.solution.buyitapp.service.localize.ErrorResponseCache.ACCESS_DENIED;
+import static com.afj.solution.buyitapp.service.localize.ErrorResponseCache.UNAUTHORIZED;
+import static java.util.Objects.isNull;
 
 /**
  * @author Tomash Gombosh
  */
 @Slf4j
+@Component
 public class ApplicationSecurityEntryPoint implements AuthenticationEntryPoint, AccessDeniedHandler {
 
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    private final ErrorResponseCache errorResponses;
+    private final LogRateLimiter logRateLimiter = new LogRateLimiter(Duration.ofSeconds(10));
+
+    @Autowired
+    public ApplicationSecurityEntryPoint(final ErrorResponseCache errorResponses) {
+        this.errorResponses = errorResponses;
+    }
+
     @Override
     public void commence(final HttpServletRequest httpServletRequest,
                          final HttpServletResponse httpServletResponse,
                          final AuthenticationException exception) throws IOException {
-        httpServletResponse.setContentType("application/json;charset=UTF-8");
-        httpServletResponse.setStatus(401);
-        httpServletResponse.getWriter().write(generateUnAuthorizedErrorResponse(exception.getMessage()));
-        log.error("Authentication entry point commence method return an exception {}", exception.getMessage());
+        final byte[] response = isNull(exception.getMessage())
+                ? errorResponses.getResponse(UNAUTHORIZED)
+                : errorResponses.getMessageResponse(exception.getMessage());
+        write(httpServletResponse, 401, response);
+        final long suppressed = logRateLimiter.acquire("401");
+        if (suppressed != SUPPRESSED) {
+            log.warn("Authentication entry point commence method return an exception {} ({} similar suppressed)",
+                    exception.getMessage(), suppressed);
+        }
     }
 
     @Override
@@ -34,10 +58,18 @@ public class ApplicationSecurityEntryPoint implements AuthenticationEntryPoint,
                        final HttpServletResponse httpServletResponse,
                        final AccessDeniedException exception)
             throws IOException {
-        httpServletResponse.setContentType("application/json;charset=UTF-8");
-        httpServletResponse.setStatus(403);
-        httpServletResponse.getWriter().write(generateAccessDeniedErrorResponse());
-        log.error("Access denied handler handle method return an exception {}", exception.getMessage());
+        write(httpServletResponse, 403, errorResponses.getResponse(ACCESS_DENIED));
+        final long suppressed = logRateLimiter.acquire("403");
+        if (suppressed != SUPPRESSED) {
+            log.warn("Access denied handler handle method return an exception {} ({} similar suppressed)",
+                    exception.getMessage(), suppressed);
+        }
     }
 
+    private void write(final HttpServletResponse httpServletResponse, final int status, final byte[] response) throws IOException {
+        httpServletResponse.setContentType(CONTENT_TYPE);
+        httpServletResponse.setStatus(status);
+        httpServletResponse.setContentLength(response.length);
+        httpServletResponse.getOutputStream().write(response);
+    }
 }
@@ -0,0 +1,99 @@
+package com.afj.solution.buyitapp.security;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.afj.solution.buyitapp.exception.ServiceUnavailableException;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String HASH_METRIC = "app.password.hash";
+
+    private final PasswordEncoder delegate = new BCryptPasswordEncoder();
+    private final ThreadPoolTaskExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    @Autowired
+    public BoundedPasswordEncoder(@Qualifier("passwordHashingExecutor") final ThreadPoolTaskExecutor executor,
+                                  final MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+        this.rejected = Counter.builder(HASH_METRIC + ".rejected")
+                .description("Password hashes rejected because the hashing queue is full")
+                .register(meterRegistry);
+        Gauge.builder(HASH_METRIC + ".queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Password hashes waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder(HASH_METRIC + ".active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Password hashes in progress")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(final CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(final CharSequence rawPassword, final String encodedPassword) {
+        return execute(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * The request thread waits for the hash, but only as many of them as the queue holds, the rest is rejected at once.
+     */
+    private <T> T execute(final Callable<T> hash) {
+        final Future<T> future;
+        try {
+            future = executor.submit(hash);
+        } catch (TaskRejectedException ex) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Password hashing queue is full", ex);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing is interrupted", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private static Timer hashTimer(final String operation, final MeterRegistry meterRegistry) {
+        return Timer.builder(HASH_METRIC)
+                .description("Time of the password hashing")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.afj.solution.buyitapp.security;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record JwtPrincipal(UUID id, String username, List<GrantedAuthority> roles) implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2717153542404418722L;
+
+    public JwtPrincipal {
+        roles = List.copyOf(roles);
+    }
+
+    public boolean isAnonymous() {
+        return roles.stream().anyMatch(r -> "ROLE_ANONYMOUS".equals(r.getAuthority()));
+    }
+}
@@ -1,13 +1,19 @@
 package com.afj.solution.buyitapp.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.servlet.http.HttpServletRequest;
@@ -22,17 +28,24 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import com.afj.solution.buyitapp.common.ExpiringCache;
+import com.afj.solution.buyitapp.common.LogRateLimiter;
 import com.afj.solution.buyitapp.exception.CustomAuthenticationException;
 import com.afj.solution.buyitapp.model.User;
 import com.afj.solution.buyitapp.service.localize.TranslatorService;
 
+import static com.afj.solution.buyitapp.common.LogRateLimiter.SUPPRESSED;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -45,14 +58,19 @@ public class JwtTokenProvider {
     private final String tokenSecret;
     private final Duration tokenExpiration;
     private final TranslatorService translator;
+    private final ExpiringCache<String, JwtPrincipal> verifiedTokens;
+    private final LogRateLimiter logRateLimiter = new LogRateLimiter(Duration.ofSeconds(10));
 
     @Autowired
     public JwtTokenProvider(@Value("${token.secret}") final String tokenSecretValue,
                             @Value("${token.expiration}") final long tokenExpirationValue,
+                            @Value("${token.cache.size}") final int tokenCacheSize,
+                            @Value("${token.cache.ttl}") final long tokenCacheTtlValue,
                             final TranslatorService translator) {
         this.tokenSecret = Base64.getEncoder().encodeToString(tokenSecretValue.getBytes());
         this.tokenExpiration = Duration.ofHours(tokenExpirationValue);
         this.translator = translator;
+        this.verifiedTokens = new ExpiringCache<>(tokenCacheSize, Duration.ofMinutes(tokenCacheTtlValue));
     }
 
     public String createToken(final Map<String, Object> claims) {
@@ -82,61 +100,62 @@ public class JwtTokenProvider {
     }
 
     public String getUsernameFromToken(final String token) {
-        requireNonNull(tokenSecret, "Initialization of the Token Provider was incorrect use constructor or setter method");
+        return this.getPrincipalFromToken(token).username();
+    }
 
-        if (!token.isEmpty() && this.validateToken(token)) {
-            final Claims claims = Jwts.parser()
-                    .setSigningKey(tokenSecret)
-                    .parseClaimsJws(token)
-                    .getBody();
-            return (String) claims.get("username");
-        }
-        throw new CustomAuthenticationException(translator.toLocale("error.token.invalid"));
+    public UUID getUuidFromToken(final String token) {
+        return this.getPrincipalFromToken(token).id();
     }
 
-    public List<Map<String, String>> getRoleFromToken(final String token) {
-        requireNonNull(tokenSecret, "Initialization of the Token Provider was incorrect use constructor or setter method");
+    public JwtPrincipal getPrincipalFromToken(final String token) {
+        return this.parseToken(token)
+                .orElseThrow(() -> new CustomAuthenticationException(translator.toLocale("error.token.invalid")));
+    }
 
-        if (!token.isEmpty() && this.validateToken(token)) {
-            final Claims claims = Jwts.parser()
-                    .setSigningKey(tokenSecret)
-                    .parseClaimsJws(token)
-                    .getBody();
-            return (List<Map<String, String>>) claims.get("roles");
-        }
-        throw new CustomAuthenticationException(translator.toLocale("error.token.invalid"));
+    public boolean validateToken(final String authToken) {
+        return this.parseToken(authToken).isPresent();
     }
 
-    public UUID getUuidFromToken(final String token) {
+    public Optional<JwtPrincipal> parseToken(final String token) {
         requireNonNull(tokenSecret, "Initialization of the Token Provider was incorrect use constructor or setter method");
 
-        if (!token.isEmpty() && this.validateToken(token)) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+        final String tokenHash = hash(token);
+        final Optional<JwtPrincipal> verifiedPrincipal = verifiedTokens.get(tokenHash);
+        if (verifiedPrincipal.isPresent()) {
+            return verifiedPrincipal;
+        }
+        try {
             final Claims claims = Jwts.parser()
                     .setSigningKey(tokenSecret)
                     .parseClaimsJws(token)
                     .getBody();
-            return UUID.fromString((String) claims.get("id"));
-        }
-        throw new CustomAuthenticationException(translator.toLocale("error.token.invalid"));
-    }
-
-
-    public boolean validateToken(final String authToken) {
-        requireNonNull(tokenSecret, "Initialization of the Token Provider was incorrect use constructor or setter method");
-
-        try {
-            Jwts.parser().setSigningKey(tokenSecret).parseClaimsJws(authToken);
-            return true;
+            final JwtPrincipal principal = toPrincipal(claims);
+            if (nonNull(claims.getExpiration())) {
+                verifiedTokens.put(tokenHash, principal, claims.getExpiration().toInstant());
+            } else {
+                verifiedTokens.put(tokenHash, principal);
+            }
+            return Optional.of(principal);
         } catch (SignatureException ex) {
-            log.error("Invalid JWT signature {}", ex.getMessage());
+            logRejectedToken("Invalid JWT signature", ex);
         } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token {}", ex.getMessage());
+            logRejectedToken("Invalid JWT token", ex);
         } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token {} {} {}", ex.getMessage(), ex.getClaims().getExpiration(), ex.getClaims().getIssuedAt());
+            log.debug("Expired JWT token {} {} {}", ex.getMessage(), ex.getClaims().getExpiration(), ex.getClaims().getIssuedAt());
         } catch (UnsupportedJwtException ex) {
-            log.error("Unsupported JWT token {}", ex.getMessage());
+            logRejectedToken("Unsupported JWT token", ex);
+        }
+        return Optional.empty();
+    }
+
+    private void logRejectedToken(final String reason, final Exception ex) {
+        final long suppressed = logRateLimiter.acquire(reason);
+        if (suppressed != SUPPRESSED) {
+            log.warn("{} {} ({} similar suppressed)", reason, ex.getMessage(), suppressed);
         }
-        return false;
     }
 
     public String getJwtFromRequest(final HttpServletRequest request) {
@@ -162,13 +181,41 @@ public class JwtTokenProvider {
         return "Bearer ";
     }
 
+    public JwtPrincipal getPrincipal() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (nonNull(authentication) && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        return this.getPrincipalFromToken(this.getToken().substring(7));
+    }
+
     public String getUserUuid() {
         final String getTokenFromRequest = this.getToken();
         if (!isNull(getTokenFromRequest) && !"".equals(getTokenFromRequest) && !" ".equals(getTokenFromRequest)) {
-            return this.getUuidFromToken(getTokenFromRequest.substring(7)).toString();
+            return this.getPrincipal().id().toString();
 
         }
         return "";
     }
 
+    @SuppressWarnings("unchecked")
+    private JwtPrincipal toPrincipal(final Claims claims) {
+        final List<Map<String, String>> roles = (List<Map<String, String>>) claims.get("roles");
+        final List<GrantedAuthority> authorities = new ArrayList<>();
+        if (nonNull(roles)) {
+            roles.forEach(r -> authorities.add(new SimpleGrantedAuthority(r.get("authority"))));
+        }
+        return new JwtPrincipal(UUID.fromString((String) claims.get("id")),
+                (String) claims.get("username"),
+                authorities);
+    }
+
+    private String hash(final String token) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
 }
@@ -7,7 +7,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
+import com.afj.solution.buyitapp.model.UserStatus;
 import com.afj.solution.buyitapp.service.user.UserAuthService;
+import com.afj.solution.buyitapp.service.user.UserStatusCache;
 
 /**
  * @author Tomash Gombosh
@@ -16,10 +18,13 @@ import com.afj.solution.buyitapp.service.user.UserAuthService;
 public class AppUserDetailsService implements UserDetailsService {
 
     private final UserAuthService userAuthService;
+    private final UserStatusCache userStatusCache;
 
     @Autowired
-    public AppUserDetailsService(final UserAuthService userAuthService) {
+    public AppUserDetailsService(final UserAuthService userAuthService,
+                                 final UserStatusCache userStatusCache) {
         this.userAuthService = userAuthService;
+        this.userStatusCache = userStatusCache;
     }
 
     @Override
@@ -30,4 +35,8 @@ public class AppUserDetailsService implements UserDetailsService {
     public UserDetails loadUserById(final UUID id) {
         return userAuthService.findById(id);
     }
+
+    public UserStatus loadUserStatusById(final UUID id) {
+        return userStatusCache.getStatus(id);
+    }
 }
@@ -18,11 +18,14 @@ public class CategoryLocalizationServiceImpl implements CategoryLocalizationServ
 
     private final CategoryToCategoryLocalizationConverter converter;
 
+    private final CategoryTreeCache categoryTreeCache;
 
     public CategoryLocalizationServiceImpl(final CategoryLocalizationRepository repository,
-                                           final CategoryToCategoryLocalizationConverter converter) {
+                                           final CategoryToCategoryLocalizationConverter converter,
+                                           final CategoryTreeCache categoryTreeCache) {
         this.repository = repository;
         this.converter = converter;
+        this.categoryTreeCache = categoryTreeCache;
     }
 
     @Override
@@ -31,6 +34,7 @@ public class CategoryLocalizationServiceImpl implements CategoryLocalizationServ
         final CategoryLocalization categoryLocalization = converter.convert(category);
         categoryLocalization.setLocale(language);
         repository.save(categoryLocalization);
+        categoryTreeCache.invalidateAfterCommit();
     }
 
 }
@@ -21,7 +21,5 @@ public interface CategoryService {
 
     List<CategoryResponse> getLocalizeCategory(Pageable pageable, String language);
 
-    Category getLocalizedCategory(Category category, String language);
-
     Category findById(UUID id);
 }
@@ -60,7 +60,7 @@ public class CategoryServiceImpl implements CategoryService {
         }
         final Set<SubCategory> subCategories = new HashSet<>();
         final Category createCategory = createCategoryToCategoryConverter.convert(createCategoryRequest);
-        log.info("Save category {}", createCategory);
+        log.info("Save category {}", createCategory.getName());
         final Category createdCategory = repository.save(createCategory);
         subCategories.add(new SubCategory(subCategory -> {
             subCategory.setName(createCategoryRequest.getSubCategoryName());
@@ -68,7 +68,7 @@ public class CategoryServiceImpl implements CategoryService {
             subCategory.setCategory(createdCategory);
         }));
         createdCategory.setSubCategories(subCategories);
-        log.info("Save Sub Category {}", createCategory);
+        log.info("Save Sub Category {} of the category {}", createCategoryRequest.getSubCategoryName(), createdCategory.getId());
         repository.save(createCategory);
         categoryLocalizationService.save(createCategory, language);
     }
@@ -101,26 +101,6 @@ public class CategoryServiceImpl implements CategoryService {
                 .toList();
     }
 
-    @Override
-    public Category getLocalizedCategory(final Category category, final String language) {
-        final Set<SubCategory> subCategoryLocalization =
-                category
-                        .getSubCategories()
-                        .parallelStream()
-                        .peek(s -> s.setSubCategoryLocalizations(s.getSubCategoryLocalizations()
-                                .stream()
-                                .filter(l -> l.getLocale().equals(language))
-                                .collect(Collectors.toSet())))
-                        .collect(Collectors.toSet());
-        category.setLocalizations(category
-                .getLocalizations()
-                .parallelStream()
-                .filter(l -> l.getLocale().equals(language))
-                .collect(Collectors.toSet()));
-        category.setSubCategories(subCategoryLocalization);
-        return category;
-    }
-
     @Override
     public Category findById(final UUID id) {
         log.info("Find category by id({})", id);
@@ -0,0 +1,169 @@
+package com.afj.solution.buyitapp.service.category;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.afj.solution.buyitapp.model.category.CategoryEntry;
+import com.afj.solution.buyitapp.model.category.CategoryLocalizationEntry;
+import com.afj.solution.buyitapp.payload.response.CategoryResponse;
+import com.afj.solution.buyitapp.payload.response.SubCategoryResponse;
+import com.afj.solution.buyitapp.repository.CategoryLocalizationRepository;
+import com.afj.solution.buyitapp.repository.CategoryRepository;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@Service
+public class CategoryTreeCache {
+
+    private final CategoryLocalizationRepository localizationRepository;
+    private final CategoryRepository categoryRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0, null));
+
+    @Autowired
+    public CategoryTreeCache(final CategoryLocalizationRepository localizationRepository,
+                             final CategoryRepository categoryRepository) {
+        this.localizationRepository = localizationRepository;
+        this.categoryRepository = categoryRepository;
+    }
+
+    public CategoryResponse getCategory(final UUID categoryId, final UUID subCategoryId, final String language) {
+        final CategoryTree current = getTree();
+        final String locale = current.categoryLocalizations().containsKey(language)
+                || current.subCategoryLocalizations().containsKey(language) ? language : null;
+        return current.responses().computeIfAbsent(new CategoryKey(categoryId, subCategoryId, locale),
+                key -> toResponse(current, key));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        refreshTree();
+    }
+
+    /**
+     * Drops the snapshot once the caller's transaction commits, the next read builds it from the committed rows.
+     */
+    public void invalidateAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    private void invalidate() {
+        snapshot.updateAndGet(Snapshot::invalidated);
+    }
+
+    private CategoryTree getTree() {
+        final CategoryTree current = snapshot.get().tree();
+        return nonNull(current) ? current : refreshIfMissing();
+    }
+
+    private synchronized CategoryTree refreshIfMissing() {
+        final CategoryTree current = snapshot.get().tree();
+        return nonNull(current) ? current : refreshTree();
+    }
+
+    /**
+     * A tree built from rows read before an invalidation is only returned to the caller, it is not kept, otherwise it
+     * would hide the committed change until the next invalidation.
+     */
+    private synchronized CategoryTree refreshTree() {
+        final Snapshot seen = snapshot.get();
+        final CategoryTree built = build();
+        if (snapshot.compareAndSet(seen, new Snapshot(seen.generation(), built))) {
+            log.info("Built the category tree with {} categories in {} locales",
+                    built.names().size(), built.categoryLocalizations().size());
+        } else {
+            log.info("Category tree was invalidated while it was built, the next read builds it again");
+        }
+        return built;
+    }
+
+    private CategoryTree build() {
+        final Map<UUID, String> names = new HashMap<>();
+        for (final CategoryEntry category : categoryRepository.findAllEntries()) {
+            names.put(category.id(), category.name());
+        }
+        final Map<String, Map<UUID, CategoryLocalizationEntry>> categoryLocalizations = new HashMap<>();
+        final Map<String, Map<UUID, CategoryLocalizationEntry>> subCategoryLocalizations = new HashMap<>();
+        for (final CategoryLocalizationEntry localization : localizationRepository.findAllEntries()) {
+            if (isNull(localization.locale())) {
+                continue;
+            }
+            if (nonNull(localization.categoryId())) {
+                categoryLocalizations.computeIfAbsent(localization.locale(), l -> new HashMap<>())
+                        .putIfAbsent(localization.categoryId(), localization);
+            }
+            if (nonNull(localization.subCategoryId())) {
+                subCategoryLocalizations.computeIfAbsent(localization.locale(), l -> new HashMap<>())
+                        .putIfAbsent(localization.subCategoryId(), localization);
+            }
+        }
+        return new CategoryTree(unmodifiableMap(names),
+                unmodifiableMap(categoryLocalizations),
+                unmodifiableMap(subCategoryLocalizations),
+                new ConcurrentHashMap<>());
+    }
+
+    private CategoryResponse toResponse(final CategoryTree current, final CategoryKey key) {
+        final CategoryLocalizationEntry categoryLocalization = isNull(key.locale()) ? null
+                : current.categoryLocalizations().getOrDefault(key.locale(), Map.of()).get(key.categoryId());
+        final CategoryLocalizationEntry subCategoryLocalization = isNull(key.locale()) ? null
+                : current.subCategoryLocalizations().getOrDefault(key.locale(), Map.of()).get(key.subCategoryId());
+        return new CategoryResponse(key.categoryId(),
+                current.names().get(key.categoryId()),
+                nonNull(categoryLocalization) ? categoryLocalization.name() : null,
+                nonNull(categoryLocalization) ? categoryLocalization.description() : null,
+                new SubCategoryResponse(key.subCategoryId(),
+                        nonNull(subCategoryLocalization) ? subCategoryLocalization.name() : null,
+                        nonNull(subCategoryLocalization) ? subCategoryLocalization.description() : null));
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    private record Snapshot(long generation, CategoryTree tree) {
+
+        private Snapshot invalidated() {
+            return new Snapshot(generation + 1, null);
+        }
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    private record CategoryTree(Map<UUID, String> names,
+                                Map<String, Map<UUID, CategoryLocalizationEntry>> categoryLocalizations,
+                                Map<String, Map<UUID, CategoryLocalizationEntry>> subCategoryLocalizations,
+                                Map<CategoryKey, CategoryResponse> responses) {
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    private record CategoryKey(UUID categoryId, UUID subCategoryId, String locale) {
+    }
+}
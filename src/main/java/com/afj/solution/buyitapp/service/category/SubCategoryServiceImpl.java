@@ -24,11 +24,15 @@ public class SubCategoryServiceImpl implements SubCategoryService {
 
     private final TranslatorService translatorService;
 
+    private final CategoryTreeCache categoryTreeCache;
+
     @Autowired
     public SubCategoryServiceImpl(final SubcategoryRepository repository,
-                                  final TranslatorService translatorService) {
+                                  final TranslatorService translatorService,
+                                  final CategoryTreeCache categoryTreeCache) {
         this.repository = repository;
         this.translatorService = translatorService;
+        this.categoryTreeCache = categoryTreeCache;
     }
 
     @Override
@@ -43,5 +47,6 @@ public class SubCategoryServiceImpl implements SubCategoryService {
     @Override
     public void save(final SubCategory subCategory) {
         repository.save(subCategory);
+        categoryTreeCache.invalidateAfterCommit();
     }
 }
@@ -22,7 +22,9 @@ import static java.lang.String.format;
 public class CategoryToCategoryResponseConverter implements Converter<Category, CategoryResponse> {
     @Override
     public CategoryResponse convert(final Category category) {
-        log.info("Convert the category({}) to response", category);
+        if (log.isDebugEnabled()) {
+            log.debug("Convert the category({}) to response", category);
+        }
         final SubCategory subCategory = category.getSubCategories()
                 .parallelStream()
                 .findFirst()
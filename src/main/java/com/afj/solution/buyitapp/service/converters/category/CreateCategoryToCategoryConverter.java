@@ -15,7 +15,9 @@ import com.afj.solution.buyitapp.service.converters.Converter;
 public class CreateCategoryToCategoryConverter implements Converter<CreateCategoryRequest, Category> {
     @Override
     public Category convert(final CreateCategoryRequest createCategoryRequest) {
-        log.info("Convert the create category request({}) to category", createCategoryRequest);
+        if (log.isDebugEnabled()) {
+            log.debug("Convert the create category request({}) to category", createCategoryRequest);
+        }
         return new Category(category -> {
             category.setName(createCategoryRequest.getName());
             category.setDescription(createCategoryRequest.getDescription());
@@ -0,0 +1,23 @@
+package com.afj.solution.buyitapp.service.converters.order;
+
+import org.springframework.stereotype.Component;
+
+import com.afj.solution.buyitapp.model.OrderLine;
+import com.afj.solution.buyitapp.payload.response.OrderProductResponse;
+import com.afj.solution.buyitapp.service.converters.Converter;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Component
+public class OrderLineToOrderProductConverter implements Converter<OrderLine, OrderProductResponse> {
+    @Override
+    public OrderProductResponse convert(final OrderLine line) {
+        return new OrderProductResponse(orderProduct -> {
+            orderProduct.setId(line.getProductId());
+            orderProduct.setPrice(line.getUnitPrice());
+            orderProduct.setCurrency(line.getCurrency());
+            orderProduct.setQuantity(line.getQuantity());
+        });
+    }
+}
@@ -15,7 +15,9 @@ import com.afj.solution.buyitapp.service.converters.Converter;
 public class OrderToResponseConverter implements Converter<Order, OrderResponse> {
     @Override
     public OrderResponse convert(final Order order) {
-        log.info("Convert the order({}) to response", order);
+        if (log.isDebugEnabled()) {
+            log.debug("Convert the order({}) to response", order);
+        }
         return new OrderResponse(orderResponse -> {
             orderResponse.setId(order.getId());
             orderResponse.setStatus(order.getStatus());
@@ -0,0 +1,73 @@
+package com.afj.solution.buyitapp.service.converters.product;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.afj.solution.buyitapp.model.product.ProductListing;
+import com.afj.solution.buyitapp.model.product.RatingSummary;
+import com.afj.solution.buyitapp.payload.response.CharacteristicResponse;
+import com.afj.solution.buyitapp.payload.response.CreatedByResponse;
+import com.afj.solution.buyitapp.payload.response.ImageResponse;
+import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.service.category.CategoryTreeCache;
+import com.afj.solution.buyitapp.service.converters.Converter;
+
+import static com.afj.solution.buyitapp.constans.Patterns.DEFAULT_LANGUAGE;
+import static java.lang.String.format;
+import static java.util.Objects.nonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Component
+public class ProductListingToResponseConverter implements Converter<ProductListing, ProductResponse> {
+
+    private final CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    public ProductListingToResponseConverter(final CategoryTreeCache categoryTreeCache) {
+        this.categoryTreeCache = categoryTreeCache;
+    }
+
+    @Override
+    public ProductResponse convert(final ProductListing product) {
+        return convert(product, DEFAULT_LANGUAGE);
+    }
+
+    public ProductResponse convert(final ProductListing product, final String language) {
+        return new ProductResponse(product.id(),
+                product.name(),
+                product.description(),
+                format("%s %s", product.price(), product.currency()),
+                product.quantity(),
+                getStar(new RatingSummary(product.ratingCount(), product.ratingSum())),
+                getImageResponse(product),
+                getCharacteristic(product),
+                new CreatedByResponse(product.userId(),
+                        product.firstName(),
+                        product.lastName(),
+                        product.email(),
+                        product.phoneNumber(),
+                        product.homeAddress()),
+                categoryTreeCache.getCategory(product.categoryId(), product.subCategoryId(), language));
+    }
+
+    private BigDecimal getStar(final RatingSummary rating) {
+        return BigDecimal.valueOf(rating.average()).setScale(1, RoundingMode.HALF_UP);
+    }
+
+    private CharacteristicResponse getCharacteristic(final ProductListing product) {
+        return nonNull(product.characteristicId())
+                ? new CharacteristicResponse(product.size(), product.color(), product.additionalParams())
+                : null;
+    }
+
+    private ImageResponse getImageResponse(final ProductListing product) {
+        return nonNull(product.imageId())
+                ? new ImageResponse(imageResponse -> imageResponse.setName(product.imageName()))
+                : null;
+    }
+}
@@ -15,7 +15,9 @@ import com.afj.solution.buyitapp.service.converters.Converter;
 public class ProductRequestToProductConverter implements Converter<CreateProductRequest, Product> {
     @Override
     public Product convert(final CreateProductRequest createProductRequest) {
-        log.info("Convert the product request({}) to product", createProductRequest);
+        if (log.isDebugEnabled()) {
+            log.debug("Convert the product request({}) to product", createProductRequest);
+        }
         return new Product(p -> {
             p.setName(createProductRequest.getName());
             p.setPrice(createProductRequest.getPrice());
@@ -2,28 +2,24 @@ package com.afj.solution.buyitapp.service.converters.product;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Set;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import com.afj.solution.buyitapp.exception.BadRequestException;
 import com.afj.solution.buyitapp.model.User;
-import com.afj.solution.buyitapp.model.category.Category;
-import com.afj.solution.buyitapp.model.category.CategoryLocalization;
-import com.afj.solution.buyitapp.model.category.SubCategory;
 import com.afj.solution.buyitapp.model.product.Characteristic;
 import com.afj.solution.buyitapp.model.product.Image;
 import com.afj.solution.buyitapp.model.product.Product;
-import com.afj.solution.buyitapp.model.product.Rating;
-import com.afj.solution.buyitapp.payload.response.CategoryResponse;
+import com.afj.solution.buyitapp.model.product.RatingSummary;
 import com.afj.solution.buyitapp.payload.response.CharacteristicResponse;
 import com.afj.solution.buyitapp.payload.response.CreatedByResponse;
 import com.afj.solution.buyitapp.payload.response.ImageResponse;
 import com.afj.solution.buyitapp.payload.response.ProductResponse;
-import com.afj.solution.buyitapp.payload.response.SubCategoryResponse;
+import com.afj.solution.buyitapp.service.category.CategoryTreeCache;
 import com.afj.solution.buyitapp.service.converters.Converter;
 
+import static com.afj.solution.buyitapp.constans.Patterns.DEFAULT_LANGUAGE;
 import static java.lang.String.format;
 import static java.util.Objects.nonNull;
 
@@ -34,11 +30,24 @@ import static java.util.Objects.nonNull;
 @Component
 public class ProductToResponseConverter implements Converter<Product, ProductResponse> {
 
+    private final CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    public ProductToResponseConverter(final CategoryTreeCache categoryTreeCache) {
+        this.categoryTreeCache = categoryTreeCache;
+    }
+
     @Override
     public ProductResponse convert(final Product product) {
-        log.info("Convert the product({}) to response", product);
+        return convert(product, DEFAULT_LANGUAGE);
+    }
+
+    public ProductResponse convert(final Product product, final String language) {
+        if (log.isDebugEnabled()) {
+            log.debug("Convert the product({}) to response", product);
+        }
         final ImageResponse image = getImageResponse(product.getImage());
-        final BigDecimal star = getStar(product.getRatings());
+        final BigDecimal star = getStar(new RatingSummary(product.getRatingCount(), product.getRatingSum()));
         final CharacteristicResponse characteristic = getCharacteristic(product.getCharacteristic());
         final CreatedByResponse createdBy = getCreatedByResponse(product.getUser());
 
@@ -51,15 +60,11 @@ public class ProductToResponseConverter implements Converter<Product, ProductRes
                 image,
                 characteristic,
                 createdBy,
-                geneRateCategoryResponse(product));
+                categoryTreeCache.getCategory(product.getCategory().getId(), product.getSubCategory().getId(), language));
     }
 
-    private BigDecimal getStar(final Set<Rating> ratings) {
-        return BigDecimal.valueOf(ratings
-                .parallelStream()
-                .mapToInt(Rating::getStar)
-                .average()
-                .orElse(0.0)).setScale(1, RoundingMode.HALF_UP);
+    private BigDecimal getStar(final RatingSummary rating) {
+        return BigDecimal.valueOf(rating.average()).setScale(1, RoundingMode.HALF_UP);
     }
 
     private CharacteristicResponse getCharacteristic(final Characteristic characteristic) {
@@ -75,36 +80,6 @@ public class ProductToResponseConverter implements Converter<Product, ProductRes
                 : null;
     }
 
-    private CategoryLocalization getCategoryLocalized(final Category category) {
-        return category
-                .getLocalizations()
-                .parallelStream()
-                .findFirst()
-                .orElseThrow(() -> new BadRequestException("Something went wrong to convert product to product response"));
-    }
-
-    private CategoryLocalization getSubCategoryLocalized(final SubCategory category) {
-        return category
-                .getSubCategoryLocalizations()
-                .parallelStream()
-                .findFirst()
-                .orElseThrow(() -> new BadRequestException("Something went wrong to convert product to product response"));
-    }
-
-    private CategoryResponse geneRateCategoryResponse(final Product product) {
-        final CategoryLocalization categoryLocalization = getCategoryLocalized(product.getCategory());
-
-        final CategoryLocalization subCategoryLocalization = getSubCategoryLocalized(product.getSubCategory());
-
-        return new CategoryResponse(product.getCategory().getId(),
-                product.getCategory().getName(),
-                categoryLocalization.getName(),
-                categoryLocalization.getDescription(),
-                new SubCategoryResponse(product.getSubCategory().getId(),
-                        subCategoryLocalization.getName(),
-                        subCategoryLocalization.getDescription()));
-    }
-
     private CreatedByResponse getCreatedByResponse(final User user) {
         return new CreatedByResponse(user.getId(),
                 user.getFirstName(),
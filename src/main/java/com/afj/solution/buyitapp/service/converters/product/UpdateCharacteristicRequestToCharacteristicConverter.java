@@ -17,7 +17,9 @@ public class UpdateCharacteristicRequestToCharacteristicConverter
 
     @Override
     public Characteristic convert(final UpdateCharacteristicRequest updateCharacteristicRequest) {
-        log.info("Convert the request ({}) to characteristic", updateCharacteristicRequest);
+        if (log.isDebugEnabled()) {
+            log.debug("Convert the request ({}) to characteristic", updateCharacteristicRequest);
+        }
         return new Characteristic(ch -> {
             ch.setColor(updateCharacteristicRequest.getColor());
             ch.setSize(updateCharacteristicRequest.getSize());
@@ -20,7 +20,9 @@ public class CreateUserRequestToUser implements Converter<CreateUserRequest, Use
 
     @Override
     public User convert(final CreateUserRequest createUserRequest) {
-        log.info("Convert the Create User Request ({}) to user", createUserRequest);
+        if (log.isDebugEnabled()) {
+            log.debug("Convert the Create User Request ({}) to user", createUserRequest);
+        }
         return new User(user -> {
             user.setFirstName(createUserRequest.getFirstName());
             user.setLastName(createUserRequest.getLastName());
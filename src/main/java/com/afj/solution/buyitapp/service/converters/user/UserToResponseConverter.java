@@ -19,7 +19,9 @@ public class UserToResponseConverter implements Converter<User, UserResponse> {
 
     @Override
     public UserResponse convert(final User user) {
-        log.info("Convert the user({}) to user response", user);
+        if (log.isDebugEnabled()) {
+            log.debug("Convert the user({}) to user response", user);
+        }
         return new UserResponse(userResponse -> {
             userResponse.setId(user.getId());
             userResponse.setUsername(user.getUsername());
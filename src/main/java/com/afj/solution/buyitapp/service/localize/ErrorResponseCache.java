@@ -0,0 +1,87 @@
+package com.afj.solution.buyitapp.service.localize;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.afj.solution.buyitapp.common.Response;
+
+import static com.afj.solution.buyitapp.constans.Patterns.STATUS_FAILED;
+import static com.afj.solution.buyitapp.constans.Patterns.SUPPORTED_LANGUAGES;
+import static java.util.Objects.nonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@Service
+public class ErrorResponseCache {
+
+    public static final String UNAUTHORIZED = "error.access.unauthorized";
+    public static final String ACCESS_DENIED = "error.access.denied";
+    public static final String SERVICE_BUSY = "error.service.busy";
+
+    private static final List<String> PRELOADED_CODES = List.of(UNAUTHORIZED, ACCESS_DENIED, SERVICE_BUSY);
+    private static final int MAX_MESSAGES = 256;
+
+    private final TranslatorService translator;
+    private final ObjectMapper objectMapper;
+    private final Map<Locale, Map<String, byte[]>> responses = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> messageResponses = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ErrorResponseCache(final TranslatorService translator,
+                              final ObjectMapper objectMapper) {
+        this.translator = translator;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        SUPPORTED_LANGUAGES.forEach(language -> PRELOADED_CODES.forEach(code -> getResponse(code, new Locale(language))));
+        log.info("Preloaded error responses for {} locales", responses.size());
+    }
+
+    public byte[] getResponse(final String code) {
+        return getResponse(code, LocaleContextHolder.getLocale());
+    }
+
+    public byte[] getResponse(final String code, final Locale locale) {
+        final Locale errorLocale = translator.getErrorLocale(locale);
+        return responses.computeIfAbsent(errorLocale, l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(code, c -> encode(translator.getMessage(c, null, errorLocale)));
+    }
+
+    /**
+     * Messages of the rejected requests come from a small set of translated texts, anything beyond the limit is encoded per call.
+     */
+    public byte[] getMessageResponse(final String message) {
+        final byte[] response = messageResponses.get(message);
+        if (nonNull(response)) {
+            return response;
+        }
+        final byte[] encoded = encode(message);
+        if (messageResponses.size() < MAX_MESSAGES) {
+            messageResponses.putIfAbsent(message, encoded);
+        }
+        return encoded;
+    }
+
+    private byte[] encode(final String message) {
+        try {
+            return objectMapper.writeValueAsBytes(new Response<String>(STATUS_FAILED, List.of(new Response.Error(message))));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Error response can not be serialized", ex);
+        }
+    }
+}
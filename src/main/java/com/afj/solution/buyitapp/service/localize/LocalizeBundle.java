@@ -0,0 +1,9 @@
+package com.afj.solution.buyitapp.service.localize;
+
+import java.util.Map;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record LocalizeBundle(Map<String, String> messages, byte[] json, String etag) {
+}
@@ -0,0 +1,62 @@
+package com.afj.solution.buyitapp.service.localize;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import static com.afj.solution.buyitapp.constans.Patterns.SUPPORTED_LANGUAGES;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@Service
+public class LocalizeCache {
+
+    private final TranslatorService translator;
+    private final ObjectMapper objectMapper;
+    private final Map<Locale, LocalizeBundle> bundles = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LocalizeCache(final TranslatorService translator,
+                         final ObjectMapper objectMapper) {
+        this.translator = translator;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        for (final String language : SUPPORTED_LANGUAGES) {
+            get(new Locale(language));
+        }
+        log.info("Preloaded {} localize bundles", bundles.size());
+    }
+
+    public LocalizeBundle get(final Locale locale) {
+        final ResourceBundle resourceBundle = translator.getLocalizeBundle(locale);
+        return bundles.computeIfAbsent(resourceBundle.getLocale(), l -> build(resourceBundle));
+    }
+
+    private LocalizeBundle build(final ResourceBundle resourceBundle) {
+        final Map<String, String> messages = new TreeMap<>();
+        resourceBundle.keySet().forEach(k -> messages.put(k, resourceBundle.getString(k)));
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(messages);
+            return new LocalizeBundle(unmodifiableMap(messages), json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Localize bundle can not be serialized", ex);
+        }
+    }
+}
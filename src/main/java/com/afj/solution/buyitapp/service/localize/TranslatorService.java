@@ -1,14 +1,13 @@
 package com.afj.solution.buyitapp.service.localize;
 
 import java.util.Locale;
-import java.util.Map;
 import java.util.ResourceBundle;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.ResourceBundleMessageSource;
 import org.springframework.stereotype.Component;
 
+import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -28,13 +27,14 @@ public class TranslatorService extends ResourceBundleMessageSource {
         return this.getMessage(msgCode, null, locale);
     }
 
-    public Map<String, Object> getLocalize() {
-        final ResourceBundle resourceBundle = getResourceBundle("localize", LocaleContextHolder.getLocale());
-        requireNonNull(resourceBundle, "Not found a localization");
+    public Locale getErrorLocale(final Locale locale) {
+        final ResourceBundle resourceBundle = getResourceBundle("error", locale);
+        return nonNull(resourceBundle) ? resourceBundle.getLocale() : locale;
+    }
 
-        final Map<String, Object> objectMap = new ConcurrentHashMap<>();
-        resourceBundle.keySet().forEach(k ->
-                objectMap.put(k, resourceBundle.getString(k)));
-        return objectMap;
+    public ResourceBundle getLocalizeBundle(final Locale locale) {
+        final ResourceBundle resourceBundle = getResourceBundle("localize", locale);
+        requireNonNull(resourceBundle, "Not found a localization");
+        return resourceBundle;
     }
 }
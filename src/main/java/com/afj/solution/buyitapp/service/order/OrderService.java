@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import com.afj.solution.buyitapp.model.Order;
 import com.afj.solution.buyitapp.payload.request.CreateOrderRequest;
 import com.afj.solution.buyitapp.payload.response.OrderResponse;
+import com.afj.solution.buyitapp.payload.response.ScrollResponse;
 
 /**
  * @author Tomash Gombosh
@@ -20,5 +21,7 @@ public interface OrderService {
 
     Page<OrderResponse> getMyOrders(Pageable pageable, UUID userId);
 
+    ScrollResponse<OrderResponse> scrollMyOrders(String cursor, int size, UUID userId);
+
     Order findById(UUID orderId);
 }
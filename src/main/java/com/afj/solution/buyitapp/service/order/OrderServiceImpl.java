@@ -1,32 +1,47 @@
 package com.afj.solution.buyitapp.service.order;
 
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.afj.solution.buyitapp.common.ScrollCursor;
 import com.afj.solution.buyitapp.exception.BadRequestException;
 import com.afj.solution.buyitapp.exception.EntityNotFoundException;
 import com.afj.solution.buyitapp.model.Order;
+import com.afj.solution.buyitapp.model.OrderLine;
 import com.afj.solution.buyitapp.model.enums.OrderStatus;
-import com.afj.solution.buyitapp.model.product.Product;
+import com.afj.solution.buyitapp.model.product.ProductStock;
 import com.afj.solution.buyitapp.payload.request.CreateOrderRequest;
+import com.afj.solution.buyitapp.payload.response.OrderProductResponse;
 import com.afj.solution.buyitapp.payload.response.OrderResponse;
+import com.afj.solution.buyitapp.payload.response.ScrollResponse;
 import com.afj.solution.buyitapp.repository.OrderRepository;
+import com.afj.solution.buyitapp.service.converters.order.OrderLineToOrderProductConverter;
 import com.afj.solution.buyitapp.service.converters.order.OrderToResponseConverter;
 import com.afj.solution.buyitapp.service.localize.TranslatorService;
 import com.afj.solution.buyitapp.service.product.ProductService;
 
+import static com.afj.solution.buyitapp.constans.Patterns.MAX_SCROLL_SIZE;
 import static com.afj.solution.buyitapp.model.enums.OrderStatus.CANCEL;
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 /**
  * @author Tomash Gombosh
@@ -34,62 +49,167 @@ import static java.lang.String.format;
 @Service
 @Slf4j
 public class OrderServiceImpl implements OrderService {
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
     private final OrderRepository orderRepository;
     private final OrderToResponseConverter converter;
+    private final OrderLineToOrderProductConverter productConverter;
     private final ProductService productService;
     private final TranslatorService translator;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public OrderServiceImpl(final OrderRepository orderRepository,
                             final OrderToResponseConverter converter,
+                            final OrderLineToOrderProductConverter productConverter,
                             final ProductService productService,
-                            final TranslatorService translator) {
+                            final TranslatorService translator,
+                            final TransactionTemplate transactionTemplate) {
         this.orderRepository = orderRepository;
         this.converter = converter;
+        this.productConverter = productConverter;
         this.productService = productService;
         this.translator = translator;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
     public OrderResponse create(final CreateOrderRequest createOrderRequest,
                                 final UUID userId) {
         log.info("Create order for products {}", createOrderRequest.getProductIds());
-        final List<Product> outOfStockProducts = productService
-                .productsWithEmptyQuantity(createOrderRequest.getProductIds());
-        if (!outOfStockProducts.isEmpty()) {
-            log.info("The products is out of the quantity {}", outOfStockProducts);
-            throw new BadRequestException(format(translator.toLocale("error.product.out-of-stock"),
-                    outOfStockProducts.stream().map(Product::getName).collect(Collectors.toList())));
+        final Map<UUID, Integer> quantities = createOrderRequest.getProductIds()
+                .stream()
+                .collect(Collectors.toMap(Function.identity(), id -> 1, Integer::sum, LinkedHashMap::new));
+        int attempt = 1;
+        while (true) {
+            try {
+                final OrderResponse order = transactionTemplate.execute(status -> createOrder(quantities, userId, status));
+                if (isNull(order)) {
+                    throw outOfStock(quantities);
+                }
+                return order;
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw ex;
+                }
+                log.warn("Retry the order creation after the conflict, attempt {}: {}", attempt, ex.getMessage());
+                attempt++;
+            }
         }
-        final Set<Product> products = productService.getProductsById(createOrderRequest.getProductIds());
-        log.info("Get products from database {}", products);
+    }
 
-        final double total = products.stream().mapToDouble(Product::getPrice).sum();
-        log.info("Count total price {}", total);
+    /**
+     * Returns no order and marks the transaction for rollback when any product is out of stock.
+     */
+    private OrderResponse createOrder(final Map<UUID, Integer> quantities, final UUID userId,
+                                      final TransactionStatus status) {
+        final List<ProductStock> products = productService.getProductsStock(quantities.keySet());
+        log.info("Get {} products from database", products.size());
+        if (log.isDebugEnabled()) {
+            log.debug("Products from database {}", products);
+        }
 
-        final Order order = orderRepository.save(new Order(o -> {
-            o.setProductIds(new HashSet<>(createOrderRequest.getProductIds()));
+        final Map<Integer, List<UUID>> productsByQuantity = products
+                .stream()
+                .collect(Collectors.groupingBy(p -> quantities.get(p.id()),
+                        Collectors.mapping(ProductStock::id, Collectors.toList())));
+        final boolean inStock = productsByQuantity
+                .entrySet()
+                .stream()
+                .allMatch(e -> productService.decreaseProductsQuantity(e.getValue(), e.getKey()));
+        if (!inStock) {
+            log.info("Roll back the order, some of the products {} are out of stock", quantities.keySet());
+            status.setRollbackOnly();
+            return null;
+        }
+
+        final Order order = new Order(o -> {
             o.setUserId(userId);
             o.setStatus(OrderStatus.PENDING);
-            o.setTotal((float) total);
-        }));
-        log.info("Save order to the database {}", order);
-
-        products.forEach(p -> productService.decreaseProductQuantity(p.getId(), 1));
-        final OrderResponse orderResponse = converter.convert(order);
-        orderResponse.setProducts(products);
-        return orderResponse;
+        });
+        products.forEach(p -> order.getLines().add(new OrderLine(l -> {
+            l.setOrder(order);
+            l.setProductId(p.id());
+            l.setQuantity(quantities.get(p.id()));
+            l.setUnitPrice(p.price());
+            l.setCurrency(p.currency());
+        })));
+        final double total = order.getLines().stream().mapToDouble(l -> l.getUnitPrice() * l.getQuantity()).sum();
+        log.info("Count total price {}", total);
+        order.setTotal((float) total);
+
+        final Order savedOrder = orderRepository.save(order);
+        log.info("Save order {} to the database", savedOrder.getId());
+
+        return toResponse(savedOrder, products.stream().collect(Collectors.toMap(ProductStock::id, ProductStock::name)));
+    }
+
+    /**
+     * Decreases every product on its own in a transaction that is always rolled back, the products that cannot be
+     * decreased are out of stock. It runs only after the order was rolled back, so the order itself keeps one
+     * update per quantity.
+     */
+    private BadRequestException outOfStock(final Map<UUID, Integer> quantities) {
+        final List<String> outOfStockProducts = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return productService.getProductsStock(quantities.keySet())
+                    .stream()
+                    .filter(p -> !productService.decreaseProductsQuantity(List.of(p.id()), quantities.get(p.id())))
+                    .map(ProductStock::name)
+                    .collect(Collectors.toList());
+        });
+        log.info("The products is out of the quantity {}", outOfStockProducts);
+        return new BadRequestException(format(translator.toLocale("error.product.out-of-stock"), outOfStockProducts));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<OrderResponse> getMyOrders(final Pageable pageable, final UUID userId) {
-        return orderRepository
-                .findAllByUserId(pageable, userId)
-                .map(o -> {
-                    final OrderResponse response = converter.convert(o);
-                    response.setProducts(productService.getProductsById(o.getProductIds().stream().toList()));
-                    return response;
-                });
+        final Page<Order> orders = orderRepository.findAllByUserId(pageable, userId);
+        final Map<UUID, String> productNames = getProductNames(orders.getContent());
+        return orders.map(o -> toResponse(o, productNames));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ScrollResponse<OrderResponse> scrollMyOrders(final String cursor, final int size, final UUID userId) {
+        final ScrollCursor after = ScrollCursor.decode(cursor, translator);
+        final int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        final List<Order> orders = orderRepository.findAllByUserIdAfter(PageRequest.of(0, limit + 1), userId,
+                nonNull(after) ? after.createdAt() : null, nonNull(after) ? after.id() : null);
+        final List<Order> page = orders.size() > limit ? orders.subList(0, limit) : orders;
+        final Order last = page.isEmpty() ? null : page.get(page.size() - 1);
+        log.info("Scroll {} orders of the user {} after the cursor {}", page.size(), userId, after);
+        final Map<UUID, String> productNames = getProductNames(page);
+        return new ScrollResponse<>(page
+                .stream()
+                .map(o -> toResponse(o, productNames))
+                .collect(Collectors.toList()),
+                orders.size() > limit ? new ScrollCursor(last.getCreatedAt(), last.getId()).encode() : null);
+    }
+
+    private Map<UUID, String> getProductNames(final List<Order> orders) {
+        final Set<UUID> productIds = orders
+                .stream()
+                .flatMap(o -> o.getLines().stream())
+                .map(OrderLine::getProductId)
+                .collect(Collectors.toSet());
+        return productService.getProductsStock(productIds)
+                .stream()
+                .collect(Collectors.toMap(ProductStock::id, ProductStock::name));
+    }
+
+    private OrderResponse toResponse(final Order order, final Map<UUID, String> productNames) {
+        final OrderResponse response = converter.convert(order);
+        response.setProducts(order.getLines()
+                .stream()
+                .map(line -> {
+                    final OrderProductResponse product = productConverter.convert(line);
+                    product.setName(productNames.get(line.getProductId()));
+                    return product;
+                })
+                .collect(Collectors.toSet()));
+        return response;
     }
 
     @Override
@@ -117,8 +237,8 @@ public class OrderServiceImpl implements OrderService {
                 orderRepository.save(cancelOrder);
                 log.info("Order {} was successfully canceled", cancelOrder.getId());
                 cancelOrder
-                        .getProductIds()
-                        .forEach(id -> productService.increaseProductQuantity(id, 1));
+                        .getLines()
+                        .forEach(line -> productService.increaseProductQuantity(line.getProductId(), line.getQuantity()));
             }
             default -> throw new BadRequestException(translator.toLocale("error.order.unsupported-state"));
         }
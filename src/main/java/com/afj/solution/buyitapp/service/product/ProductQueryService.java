@@ -0,0 +1,25 @@
+package com.afj.solution.buyitapp.service.product;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.payload.response.ProductSuggestionResponse;
+import com.afj.solution.buyitapp.payload.response.ScrollResponse;
+
+/**
+ * @author Tomash Gombosh
+ */
+public interface ProductQueryService {
+
+    Page<ProductResponse> getProducts(Pageable pageable, String language, UUID category, String title, String description);
+
+    ScrollResponse<ProductResponse> scrollProducts(String cursor, int size, String language, UUID category);
+
+    List<ProductSuggestionResponse> suggestProducts(String query, int limit);
+
+    Page<ProductResponse> getMyProducts(Pageable pageable, UUID userId, String language, String title, String description);
+}
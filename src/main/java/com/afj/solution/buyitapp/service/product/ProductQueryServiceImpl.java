@@ -0,0 +1,124 @@
+package com.afj.solution.buyitapp.service.product;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.afj.solution.buyitapp.common.ScrollCursor;
+import com.afj.solution.buyitapp.model.product.ProductListing;
+import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.payload.response.ProductSuggestionResponse;
+import com.afj.solution.buyitapp.payload.response.ScrollResponse;
+import com.afj.solution.buyitapp.repository.ProductRepository;
+import com.afj.solution.buyitapp.service.converters.product.ProductListingToResponseConverter;
+import com.afj.solution.buyitapp.service.localize.TranslatorService;
+import com.afj.solution.buyitapp.service.search.ProductSearchIndex;
+import com.afj.solution.buyitapp.service.search.SearchTokenizer;
+
+import static com.afj.solution.buyitapp.constans.Patterns.MAX_SCROLL_SIZE;
+import static com.afj.solution.buyitapp.constans.Patterns.MAX_SUGGESTIONS;
+import static java.util.Objects.nonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Service
+@Slf4j
+public class ProductQueryServiceImpl implements ProductQueryService {
+
+    private final ProductRepository productRepository;
+    private final ProductListingToResponseConverter productListingToResponseConverter;
+    private final ProductSearchIndex searchIndex;
+    private final TranslatorService translator;
+
+    @Autowired
+    public ProductQueryServiceImpl(final ProductRepository productRepository,
+                                   final ProductListingToResponseConverter productListingToResponseConverter,
+                                   final ProductSearchIndex searchIndex,
+                                   final TranslatorService translator) {
+        this.productRepository = productRepository;
+        this.productListingToResponseConverter = productListingToResponseConverter;
+        this.searchIndex = searchIndex;
+        this.translator = translator;
+    }
+
+    @Override
+    public Page<ProductResponse> getProducts(final Pageable pageable, final String language, final UUID category,
+                                             final String title, final String description) {
+        if (StringUtils.hasText(title) || StringUtils.hasText(description)) {
+            return search(pageable, language, category, null, title, description);
+        }
+        final Page<ProductListing> products = nonNull(category)
+                ? productRepository.findListingByCategory(pageable, category)
+                : productRepository.findListing(pageable);
+        return products.map(p -> productListingToResponseConverter.convert(p, language));
+    }
+
+    @Override
+    public ScrollResponse<ProductResponse> scrollProducts(final String cursor, final int size, final String language,
+                                                          final UUID category) {
+        final ScrollCursor after = ScrollCursor.decode(cursor, translator);
+        final int limit = Math.min(Math.max(size, 1), MAX_SCROLL_SIZE);
+        final List<ProductListing> products = productRepository.findListingAfter(PageRequest.of(0, limit + 1), category,
+                nonNull(after) ? after.createdAt() : null, nonNull(after) ? after.id() : null);
+        final List<ProductListing> page = products.size() > limit ? products.subList(0, limit) : products;
+        final ProductListing last = page.isEmpty() ? null : page.get(page.size() - 1);
+        log.info("Scroll {} products after the cursor {}", page.size(), after);
+        return new ScrollResponse<>(page
+                .stream()
+                .map(p -> productListingToResponseConverter.convert(p, language))
+                .collect(Collectors.toList()),
+                products.size() > limit ? new ScrollCursor(last.createdAt(), last.id()).encode() : null);
+    }
+
+    @Override
+    public List<ProductSuggestionResponse> suggestProducts(final String query, final int limit) {
+        return searchIndex.suggest(query, Math.min(Math.max(limit, 1), MAX_SUGGESTIONS));
+    }
+
+    @Override
+    public Page<ProductResponse> getMyProducts(final Pageable pageable, final UUID userId, final String language,
+                                               final String title, final String description) {
+        if (StringUtils.hasText(title) || StringUtils.hasText(description)) {
+            return search(pageable, language, null, userId, title, description);
+        }
+        return productRepository.findListingByUser(pageable, userId)
+                .map(p -> productListingToResponseConverter.convert(p, language));
+    }
+
+    private Page<ProductResponse> search(final Pageable pageable, final String language, final UUID category, final UUID user,
+                                         final String title, final String description) {
+        if (SearchTokenizer.tokenize(title).isEmpty() && SearchTokenizer.tokenize(description).isEmpty()) {
+            log.info("Search products by title {} and description {} without indexed terms", title, description);
+            return productRepository.findListingByNameAndDescription(pageable, category, user,
+                            StringUtils.hasText(title) ? title : null, StringUtils.hasText(description) ? description : null)
+                    .map(p -> productListingToResponseConverter.convert(p, language));
+        }
+        final Page<UUID> found = searchIndex.search(title, description, category, user, pageable);
+        log.info("Found {} products by title {} and description {}", found.getTotalElements(), title, description);
+        if (found.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        final Map<UUID, ProductListing> products = productRepository.findListingByIdIn(found.getContent())
+                .stream()
+                .collect(Collectors.toMap(ProductListing::id, Function.identity()));
+        return new PageImpl<>(found.getContent()
+                .stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(p -> productListingToResponseConverter.convert(p, language))
+                .collect(Collectors.toList()), pageable, found.getTotalElements());
+    }
+}
@@ -4,14 +4,20 @@ import java.util.UUID;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.afj.solution.buyitapp.exception.BadRequestException;
-import com.afj.solution.buyitapp.model.product.Product;
+import com.afj.solution.buyitapp.exception.EntityNotFoundException;
 import com.afj.solution.buyitapp.model.product.Rating;
+import com.afj.solution.buyitapp.model.product.RatingSummary;
+import com.afj.solution.buyitapp.repository.ProductRepository;
+import com.afj.solution.buyitapp.repository.RatingRepository;
+import com.afj.solution.buyitapp.repository.UserRepository;
 import com.afj.solution.buyitapp.service.localize.TranslatorService;
-import com.afj.solution.buyitapp.service.user.UserService;
-import com.afj.solution.buyitapp.service.user.UserServiceImpl;
+
+import static java.lang.String.format;
 
 /**
  * @author Tomash Gombosh
@@ -20,52 +26,60 @@ import com.afj.solution.buyitapp.service.user.UserServiceImpl;
 @Slf4j
 public class ProductRatingService implements RatingService {
 
-    private final ProductService productService;
+    private final TranslatorService translatorService;
 
-    private final UserService userService;
+    private final ProductRepository productRepository;
 
-    private final TranslatorService translatorService;
+    private final RatingRepository ratingRepository;
+
+    private final UserRepository userRepository;
 
     @Autowired
-    public ProductRatingService(final ProductServiceImp productService,
-                                final UserServiceImpl userService,
-                                final TranslatorService translatorService) {
-        this.productService = productService;
-        this.userService = userService;
+    public ProductRatingService(final TranslatorService translatorService,
+                                final ProductRepository productRepository,
+                                final RatingRepository ratingRepository,
+                                final UserRepository userRepository) {
         this.translatorService = translatorService;
+        this.productRepository = productRepository;
+        this.ratingRepository = ratingRepository;
+        this.userRepository = userRepository;
     }
 
 
+    /**
+     * Updates the product summary before the rating is inserted. The update takes the exclusive lock on the product
+     * row first, the insert then only needs the shared lock of its foreign key, so two raters of a popular product
+     * wait for each other instead of both holding the shared lock and deadlocking on its upgrade.
+     */
     @Override
+    @Transactional
     public void addRating(final int stars,
                           final UUID productId,
                           final UUID userId) {
-        userService.findById(userId);
-        final Product product = productService.findById(productId);
-        if (product
-                .getRatings()
-                .stream()
-                .noneMatch(r -> r.getUserId().equals(userId))) {
-            product.getRatings().add(new Rating(ratingLambda -> {
-                ratingLambda.setProduct(product);
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException(format(translatorService.toLocale("error.user.not-found"), userId));
+        }
+        if (productRepository.addRating(productId, stars) == 0) {
+            throw new EntityNotFoundException(format(translatorService.toLocale("error.product.not-found"), productId));
+        }
+        try {
+            ratingRepository.saveAndFlush(new Rating(ratingLambda -> {
+                ratingLambda.setProduct(productRepository.getById(productId));
                 ratingLambda.setStar(stars);
                 ratingLambda.setUserId(userId);
-            }
-            ));
-            log.info("Add rating {} to the product {}", stars, productId);
-            productService.save(product);
-        } else {
+            }));
+        } catch (DataIntegrityViolationException ex) {
+            log.info("Rating of the product {} by the user {} is already added", productId, userId);
             throw new BadRequestException(translatorService.toLocale("error.product.rating.already.added"));
         }
+        log.info("Add rating {} to the product {}", stars, productId);
     }
 
     @Override
     public double getTotalRating(final UUID productId) {
-        return productService.findById(productId)
-                .getRatings()
-                .stream()
-                .mapToInt(Rating::getStar)
-                .average()
-                .orElse(0.0);
+        return productRepository.findRatingSummaryById(productId)
+                .map(RatingSummary::average)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        format(translatorService.toLocale("error.product.not-found"), productId)));
     }
 }
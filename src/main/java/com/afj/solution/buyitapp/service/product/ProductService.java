@@ -1,26 +1,26 @@
 package com.afj.solution.buyitapp.service.product;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.afj.solution.buyitapp.model.product.ImageMetadata;
 import com.afj.solution.buyitapp.model.product.Product;
+import com.afj.solution.buyitapp.model.product.ProductStock;
 import com.afj.solution.buyitapp.payload.request.CreateProductRequest;
 import com.afj.solution.buyitapp.payload.request.UpdateCharacteristicRequest;
 import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.service.storage.ImageVariant;
 
 /**
  * @author Tomash Gombosh
  */
 public interface ProductService {
 
-    Page<ProductResponse> getProducts(Pageable pageable, String language, UUID category, String title, String description);
-
     Product save(CreateProductRequest createProductRequest, UUID userId);
 
     Product save(Product product);
@@ -29,19 +29,19 @@ public interface ProductService {
 
     ProductResponse updateCharacteristicToProduct(UUID id, UpdateCharacteristicRequest request);
 
-    byte[] getImageByProductId(UUID id);
+    ImageMetadata getImageMetadata(UUID id) throws IOException;
 
-    Product findById(UUID id);
+    ImageVariant getImageVariant(ImageMetadata image, String size);
 
-    List<Product> productsWithEmptyQuantity(List<UUID> productIds);
+    Resource getImage(ImageMetadata image, ImageVariant variant) throws IOException;
 
-    Set<Product> getProductsById(List<UUID> productIds);
+    Product findById(UUID id);
 
-    void decreaseProductQuantity(UUID productId, int quantity);
+    List<ProductStock> getProductsStock(Collection<UUID> productIds);
 
-    void increaseProductQuantity(UUID productId, int quantity);
+    boolean decreaseProductsQuantity(Collection<UUID> productIds, int quantity);
 
-    Page<ProductResponse> getMyProducts(Pageable pageable, UUID userId, String title, String description);
+    void increaseProductQuantity(UUID productId, int quantity);
 
     ProductResponse getProductById(UUID id, String language);
 }
@@ -1,18 +1,21 @@
 package com.afj.solution.buyitapp.service.product;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.HashSet;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.afj.solution.buyitapp.exception.BadRequestException;
@@ -21,10 +24,13 @@ import com.afj.solution.buyitapp.model.User;
 import com.afj.solution.buyitapp.model.category.Category;
 import com.afj.solution.buyitapp.model.category.SubCategory;
 import com.afj.solution.buyitapp.model.product.Image;
+import com.afj.solution.buyitapp.model.product.ImageMetadata;
 import com.afj.solution.buyitapp.model.product.Product;
+import com.afj.solution.buyitapp.model.product.ProductStock;
 import com.afj.solution.buyitapp.payload.request.CreateProductRequest;
 import com.afj.solution.buyitapp.payload.request.UpdateCharacteristicRequest;
 import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.repository.ImageRepository;
 import com.afj.solution.buyitapp.repository.ProductRepository;
 import com.afj.solution.buyitapp.service.category.CategoryService;
 import com.afj.solution.buyitapp.service.category.SubCategoryService;
@@ -32,9 +38,14 @@ import com.afj.solution.buyitapp.service.converters.product.ProductRequestToProd
 import com.afj.solution.buyitapp.service.converters.product.ProductToResponseConverter;
 import com.afj.solution.buyitapp.service.converters.product.UpdateCharacteristicRequestToCharacteristicConverter;
 import com.afj.solution.buyitapp.service.localize.TranslatorService;
+import com.afj.solution.buyitapp.service.storage.ImageStorageService;
+import com.afj.solution.buyitapp.service.storage.ImageVariant;
+import com.afj.solution.buyitapp.service.storage.ImageVariantService;
+import com.afj.solution.buyitapp.service.storage.StoredImage;
 import com.afj.solution.buyitapp.service.user.UserServiceImpl;
 
 import static java.lang.String.format;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 /**
@@ -52,6 +63,9 @@ public class ProductServiceImp implements ProductService {
     private final TranslatorService translator;
     private final CategoryService categoryService;
     private final SubCategoryService subCategoryService;
+    private final ImageRepository imageRepository;
+    private final ImageStorageService imageStorage;
+    private final ImageVariantService imageVariantService;
 
     @Autowired
     public ProductServiceImp(final ProductRepository productRepository,
@@ -61,7 +75,10 @@ public class ProductServiceImp implements ProductService {
                              final UpdateCharacteristicRequestToCharacteristicConverter converter,
                              final TranslatorService translator,
                              final CategoryService categoryService,
-                             final SubCategoryService subCategoryService) {
+                             final SubCategoryService subCategoryService,
+                             final ImageRepository imageRepository,
+                             final ImageStorageService imageStorage,
+                             final ImageVariantService imageVariantService) {
         this.productRepository = productRepository;
         this.userService = userService;
         this.productToResponseConverter = productToResponseConverter;
@@ -70,30 +87,14 @@ public class ProductServiceImp implements ProductService {
         this.translator = translator;
         this.categoryService = categoryService;
         this.subCategoryService = subCategoryService;
-    }
-
-    @Override
-    public Page<ProductResponse> getProducts(final Pageable pageable, final String language, final UUID category,
-                                             final String title, final String description) {
-        if (nonNull(category)) {
-            return new PageImpl<>(productRepository.findAll(pageable)
-                    .stream()
-                    .filter(product -> product.getCategory().getId().equals(category) | product.getSubCategory().getId().equals(category))
-                    .peek(p -> p.setCategory(categoryService.getLocalizedCategory(p.getCategory(), language)))
-                    .map(productToResponseConverter::convert).toList());
-        } else {
-            return productRepository.findAllByNameAndDescription(pageable, title, description)
-                    .map(p -> {
-                        p.setCategory(categoryService.getLocalizedCategory(p.getCategory(), language));
-                        return p;
-                    })
-                    .map(productToResponseConverter::convert);
-        }
+        this.imageRepository = imageRepository;
+        this.imageStorage = imageStorage;
+        this.imageVariantService = imageVariantService;
     }
 
     @Override
     public Product save(final CreateProductRequest createProductRequest, final UUID userId) {
-        log.info("Create product {} from request", createProductRequest);
+        log.info("Create product {} for the user {}", createProductRequest.getName(), userId);
         final Product convertedProduct = productRequestToProductConverter.convert(createProductRequest);
         final User createdByUser = userService.findById(userId);
         final Category category = categoryService.findById(createProductRequest.getCategoryId());
@@ -102,7 +103,7 @@ public class ProductServiceImp implements ProductService {
         convertedProduct.setCategory(category);
         convertedProduct.setSubCategory(subCategory);
         final Product product = this.save(convertedProduct);
-        log.info("Successfully create a product {}", product);
+        log.info("Successfully create a product {}", product.getId());
         return product;
     }
 
@@ -115,20 +116,32 @@ public class ProductServiceImp implements ProductService {
     @Override
     public ProductResponse addImageToProduct(final UUID id, final MultipartFile file) throws IOException {
         final Product product = this.findById(id);
-        final byte[] fileBytes = file.getBytes();
-        final boolean isFileImage = nonNull(file.getOriginalFilename()) && file.getOriginalFilename().matches(".*(jpg|png|jpeg)");
+        final String fileName = file.getOriginalFilename();
+        final boolean isFileImage = nonNull(fileName) && fileName.matches(".*(jpg|png|jpeg)");
         if (isFileImage) {
-            log.info("Add image {} to the product {}", file.getOriginalFilename(), product.getId());
+            log.info("Add image {} to the product {}", fileName, product.getId());
+            final Image previousImage = product.getImage();
+            final StoredImage storedImage;
+            try (InputStream inputStream = file.getInputStream()) {
+                storedImage = imageStorage.store(generateImageKey(id, fileName), inputStream);
+            }
             product.setImage(new Image(i -> {
-                i.setFileName(file.getOriginalFilename());
-                i.setPicture(fileBytes);
+                i.setFileName(fileName);
+                i.setStorageKey(storedImage.key());
+                i.setContentType(getContentType(fileName));
+                i.setContentLength(storedImage.contentLength());
+                i.setChecksum(storedImage.checksum());
             }));
             this.save(product);
             log.info("Product {} saved successfully to database", product.getId());
+            imageVariantService.generateVariants(storedImage.key());
+            if (nonNull(previousImage) && nonNull(previousImage.getStorageKey())) {
+                imageVariantService.deleteWithVariants(previousImage.getStorageKey());
+            }
             return productToResponseConverter.convert(product);
         }
         throw new BadRequestException(format(translator
-                .toLocale("error.file.unsupported"), file.getOriginalFilename()));
+                .toLocale("error.file.unsupported"), fileName));
     }
 
     @Override
@@ -136,7 +149,10 @@ public class ProductServiceImp implements ProductService {
         if (request.getColor().isEmpty() && request.getSize().isEmpty() && request.getAdditionalParams().isEmpty()) {
             throw new BadRequestException(translator.toLocale("error.model.empty-provided"));
         }
-        log.info("Add characteristic {} to the product {}", request, id);
+        log.info("Add characteristic to the product {}", id);
+        if (log.isDebugEnabled()) {
+            log.debug("Characteristic {}", request);
+        }
         final Product product = this.findById(id);
         product.setCharacteristic(converter.convert(request));
         this.save(product);
@@ -144,13 +160,29 @@ public class ProductServiceImp implements ProductService {
     }
 
     @Override
-    public byte[] getImageByProductId(final UUID id) {
+    public ImageMetadata getImageMetadata(final UUID id) throws IOException {
         log.info("Get image to the product {}", id);
-        final Image image = this.findById(id).getImage();
-        if (nonNull(image)) {
-            return image.getPicture();
+        final ImageMetadata image = imageRepository.findMetadataByProductId(id).orElse(null);
+        if (isNull(image)) {
+            if (productRepository.existsById(id)) {
+                throw new BadRequestException(format(translator.toLocale("error.product.image.not-found"), id));
+            }
+            throw new EntityNotFoundException(format(translator.toLocale("error.product.not-found"), id));
         }
-        throw new BadRequestException(format(translator.toLocale("error.product.image.not-found"), id));
+        return nonNull(image.storageKey()) ? image : moveLegacyImage(id, image);
+    }
+
+    @Override
+    public ImageVariant getImageVariant(final ImageMetadata image, final String size) {
+        final ImageVariant requested = ImageVariant.fromValue(size)
+                .orElseThrow(() -> new BadRequestException(format(translator
+                        .toLocale("error.product.image.size.unsupported"), size)));
+        return imageVariantService.resolveVariant(image.storageKey(), requested);
+    }
+
+    @Override
+    public Resource getImage(final ImageMetadata image, final ImageVariant variant) throws IOException {
+        return imageStorage.load(variant.keyOf(image.storageKey()));
     }
 
     @Override
@@ -160,54 +192,72 @@ public class ProductServiceImp implements ProductService {
                 .orElseThrow(() -> new EntityNotFoundException(
                         format(translator
                                 .toLocale("error.product.not-found"), id)));
-        log.info("Find Product {} by id({})", product, id);
+        log.info("Find Product by id({})", id);
+        if (log.isDebugEnabled()) {
+            log.debug("Found product {}", product);
+        }
         return product;
     }
 
     @Override
-    public List<Product> productsWithEmptyQuantity(final List<UUID> productIds) {
-        return productRepository
-                .findAllById(productIds)
-                .stream()
-                .filter(p -> p.getQuantity() <= 0)
-                .collect(Collectors.toList());
+    public List<ProductStock> getProductsStock(final Collection<UUID> productIds) {
+        log.info("Get stock of the products {}", productIds);
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        return productRepository.findStockByIdIn(productIds);
     }
 
     @Override
-    public Set<Product> getProductsById(final List<UUID> productIds) {
-        log.info("Get products by id {}", productIds);
-        return new HashSet<>(productRepository.findAllById(productIds));
+    public boolean decreaseProductsQuantity(final Collection<UUID> productIds, final int quantity) {
+        if (productIds.isEmpty()) {
+            return true;
+        }
+        final int decreased = productRepository.decreaseQuantity(productIds, quantity);
+        log.info("Decrease the quantity of {} from {} products by {}", decreased, productIds.size(), quantity);
+        return decreased == productIds.size();
     }
 
     @Override
-    public void decreaseProductQuantity(final UUID productId, final int quantity) {
-        final Product product = this.findById(productId);
-        product.setQuantity(product.getQuantity() - quantity);
-        this.save(product);
-        log.info("Decrease the product {}-{} quantity to {}",
-                product.getId(), product.getName(), product.getQuantity() - quantity);
+    public void increaseProductQuantity(final UUID productId, final int quantity) {
+        if (productRepository.increaseQuantity(productId, quantity) == 0) {
+            throw new EntityNotFoundException(format(translator.toLocale("error.product.not-found"), productId));
+        }
+        log.info("Increase the product {} quantity by {}", productId, quantity);
     }
 
     @Override
-    public void increaseProductQuantity(final UUID productId, final int quantity) {
-        final Product product = this.findById(productId);
-        product.setQuantity(product.getQuantity() + quantity);
-        this.save(product);
-        log.info("Decrease the product {}-{} quantity to {}",
-                product.getId(), product.getName(), product.getQuantity());
+    public ProductResponse getProductById(final UUID id, final String language) {
+        return productToResponseConverter.convert(this.findById(id), language);
     }
 
-    @Override
-    public Page<ProductResponse> getMyProducts(final Pageable pageable, final UUID userId, final String title, final String description) {
-        final User user = userService.findById(userId);
-        return productRepository.findAllByUserAndNameAndDescription(pageable, user, title, description)
-                .map(productToResponseConverter::convert);
+    private ImageMetadata moveLegacyImage(final UUID productId, final ImageMetadata image) throws IOException {
+        final byte[] picture = imageRepository.findLegacyPictureById(image.id());
+        if (isNull(picture)) {
+            throw new BadRequestException(format(translator.toLocale("error.product.image.not-found"), productId));
+        }
+        final String contentType = getContentType(image.fileName());
+        final StoredImage storedImage = imageStorage.store(generateImageKey(productId, image.fileName()),
+                new ByteArrayInputStream(picture));
+        imageRepository.moveLegacyPicture(image.id(), storedImage.key(), contentType,
+                storedImage.contentLength(), storedImage.checksum());
+        log.info("Moved the image {} of the product {} to the image storage", image.id(), productId);
+        imageVariantService.generateVariants(storedImage.key());
+        return new ImageMetadata(image.id(), image.fileName(), storedImage.key(), contentType,
+                storedImage.contentLength(), storedImage.checksum(), image.updatedAt());
     }
 
-    @Override
-    public ProductResponse getProductById(final UUID id, final String language) {
-        final Product product = this.findById(id);
-        product.setCategory(categoryService.getLocalizedCategory(product.getCategory(), language));
-        return productToResponseConverter.convert(this.findById(id));
+    private String generateImageKey(final UUID productId, final String fileName) {
+        final String extension = StringUtils.getFilenameExtension(fileName);
+        return nonNull(extension)
+                ? format("%s/%s.%s", productId, UUID.randomUUID(), extension.toLowerCase(Locale.ROOT))
+                : format("%s/%s", productId, UUID.randomUUID());
+    }
+
+    private String getContentType(final String fileName) {
+        return Optional.ofNullable(fileName)
+                .flatMap(MediaTypeFactory::getMediaType)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
     }
 }
@@ -0,0 +1,247 @@
+package com.afj.solution.buyitapp.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.afj.solution.buyitapp.model.product.ProductSearchDocument;
+import com.afj.solution.buyitapp.payload.response.ProductSuggestionResponse;
+import com.afj.solution.buyitapp.repository.ProductRepository;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@Service
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double NAME_BOOST = 2.0;
+    private static final double PREFIX_WEIGHT = 0.5;
+    private static final char SUGGESTION_SEPARATOR = '\u0000';
+
+    private final ProductRepository productRepository;
+    private final AtomicReference<Index> index = new AtomicReference<>();
+
+    @Autowired
+    public ProductSearchIndex(final ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        rebuild();
+    }
+
+    /**
+     * Receives the documents published by every product save once the transaction commits.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void index(final ProductSearchDocument document) {
+        getIndex().put(document);
+    }
+
+    public Page<UUID> search(final String name, final String description, final UUID category, final UUID user,
+                             final Pageable pageable) {
+        final Index current = getIndex();
+        Map<UUID, Double> scores = null;
+        for (final String token : SearchTokenizer.tokenize(name)) {
+            scores = intersect(scores, current.score(current.names, current.nameLength, token, NAME_BOOST));
+        }
+        for (final String token : SearchTokenizer.tokenize(description)) {
+            scores = intersect(scores, current.score(current.descriptions, current.descriptionLength, token, 1.0));
+        }
+        if (isNull(scores)) {
+            return Page.empty(pageable);
+        }
+
+        final List<UUID> ranked = scores.entrySet()
+                .stream()
+                .filter(e -> current.matches(e.getKey(), category, user))
+                .sorted(Map.Entry.<UUID, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        final int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        final int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(new ArrayList<>(ranked.subList(from, to)), pageable, ranked.size());
+    }
+
+    public List<ProductSuggestionResponse> suggest(final String query, final int limit) {
+        final String prefix = String.join(" ", SearchTokenizer.words(query));
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        final Index current = getIndex();
+        final Map<UUID, ProductSuggestionResponse> suggestions = new LinkedHashMap<>();
+        for (final UUID id : current.suggestions.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            final IndexedProduct product = current.products.get(id);
+            if (nonNull(product)) {
+                suggestions.putIfAbsent(id, new ProductSuggestionResponse(id, product.document().name()));
+            }
+            if (suggestions.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(suggestions.values());
+    }
+
+    private Map<UUID, Double> intersect(final Map<UUID, Double> scores, final Map<UUID, Double> tokenScores) {
+        if (isNull(scores)) {
+            return tokenScores;
+        }
+        final Map<UUID, Double> matched = new HashMap<>();
+        scores.forEach((id, score) -> {
+            final Double tokenScore = tokenScores.get(id);
+            if (nonNull(tokenScore)) {
+                matched.put(id, score + tokenScore);
+            }
+        });
+        return matched;
+    }
+
+    private Index getIndex() {
+        final Index current = index.get();
+        return nonNull(current) ? current : rebuild();
+    }
+
+    private synchronized Index rebuild() {
+        final Index built = new Index();
+        productRepository.findAllSearchDocuments().forEach(built::put);
+        index.set(built);
+        log.info("Built the product search index with {} products, {} name terms and {} description terms",
+                built.products.size(), built.names.size(), built.descriptions.size());
+        return built;
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    private record IndexedProduct(ProductSearchDocument document,
+                                  Map<String, Integer> nameTerms,
+                                  Map<String, Integer> descriptionTerms,
+                                  int nameLength,
+                                  int descriptionLength,
+                                  List<String> suggestionKeys) {
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    private static final class Index {
+        private final NavigableMap<String, Map<UUID, Integer>> names = new ConcurrentSkipListMap<>();
+        private final NavigableMap<String, Map<UUID, Integer>> descriptions = new ConcurrentSkipListMap<>();
+        private final NavigableMap<String, UUID> suggestions = new ConcurrentSkipListMap<>();
+        private final Map<UUID, IndexedProduct> products = new ConcurrentHashMap<>();
+        private final AtomicLong nameLength = new AtomicLong();
+        private final AtomicLong descriptionLength = new AtomicLong();
+
+        private void put(final ProductSearchDocument document) {
+            final List<String> nameTokens = SearchTokenizer.tokenize(document.name());
+            final List<String> descriptionTokens = SearchTokenizer.tokenize(document.description());
+            final IndexedProduct product = new IndexedProduct(document, frequencies(nameTokens), frequencies(descriptionTokens),
+                    nameTokens.size(), descriptionTokens.size(), suggestionKeys(document));
+            final IndexedProduct previous = products.put(document.id(), product);
+            if (nonNull(previous)) {
+                remove(names, previous.nameTerms(), document.id());
+                remove(descriptions, previous.descriptionTerms(), document.id());
+                previous.suggestionKeys().forEach(suggestions::remove);
+                nameLength.addAndGet(-previous.nameLength());
+                descriptionLength.addAndGet(-previous.descriptionLength());
+            }
+            add(names, product.nameTerms(), document.id());
+            add(descriptions, product.descriptionTerms(), document.id());
+            product.suggestionKeys().forEach(key -> suggestions.put(key, document.id()));
+            nameLength.addAndGet(product.nameLength());
+            descriptionLength.addAndGet(product.descriptionLength());
+        }
+
+        private boolean matches(final UUID id, final UUID category, final UUID user) {
+            final IndexedProduct product = products.get(id);
+            if (isNull(product)) {
+                return false;
+            }
+            final ProductSearchDocument document = product.document();
+            return (isNull(category) || category.equals(document.categoryId()) || category.equals(document.subCategoryId()))
+                    && (isNull(user) || user.equals(document.userId()));
+        }
+
+        private Map<UUID, Double> score(final NavigableMap<String, Map<UUID, Integer>> postings, final AtomicLong totalLength,
+                                        final String token, final double boost) {
+            final int documents = Math.max(products.size(), 1);
+            final double averageLength = Math.max((double) totalLength.get() / documents, 1.0);
+            final Map<UUID, Double> scores = new HashMap<>();
+            postings.subMap(token, true, token + Character.MAX_VALUE, false).forEach((term, frequencies) -> {
+                final double weight = term.equals(token) ? boost : boost * PREFIX_WEIGHT;
+                final double idf = Math.log(1 + (documents - frequencies.size() + 0.5) / (frequencies.size() + 0.5));
+                frequencies.forEach((id, frequency) -> {
+                    final IndexedProduct product = products.get(id);
+                    if (isNull(product)) {
+                        return;
+                    }
+                    final int length = postings == names ? product.nameLength() : product.descriptionLength();
+                    final double tf = frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * length / averageLength));
+                    scores.merge(id, weight * idf * tf, Double::sum);
+                });
+            });
+            return scores;
+        }
+
+        /**
+         * Every word of the name except the stopwords starts a key, so the name is suggested by any of its words.
+         */
+        private static List<String> suggestionKeys(final ProductSearchDocument document) {
+            final List<String> words = SearchTokenizer.words(document.name());
+            final List<String> keys = new ArrayList<>();
+            for (int i = 0; i < words.size(); i++) {
+                if (i == 0 || !SearchTokenizer.isStopword(words.get(i))) {
+                    keys.add(String.join(" ", words.subList(i, words.size())) + SUGGESTION_SEPARATOR + document.id());
+                }
+            }
+            return keys;
+        }
+
+        private static Map<String, Integer> frequencies(final List<String> tokens) {
+            final Map<String, Integer> frequencies = new HashMap<>();
+            tokens.forEach(t -> frequencies.merge(t, 1, Integer::sum));
+            return frequencies;
+        }
+
+        private static void add(final NavigableMap<String, Map<UUID, Integer>> postings, final Map<String, Integer> terms,
+                                final UUID id) {
+            terms.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(id, frequency));
+        }
+
+        private static void remove(final NavigableMap<String, Map<UUID, Integer>> postings, final Map<String, Integer> terms,
+                                   final UUID id) {
+            terms.keySet().forEach(term -> postings.computeIfPresent(term, (t, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            }));
+        }
+    }
+}
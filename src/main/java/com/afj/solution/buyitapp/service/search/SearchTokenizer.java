@@ -0,0 +1,63 @@
+package com.afj.solution.buyitapp.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+public final class SearchTokenizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOPWORDS = Stream.of(
+                    // gb
+                    "a", "an", "and", "are", "as", "at", "by", "for", "from", "in", "is", "of", "on", "or", "the", "to", "with",
+                    // hu
+                    "az", "egy", "és", "de", "hogy", "is", "meg", "nem", "vagy", "van", "mint", "már",
+                    // ua
+                    "і", "й", "та", "в", "у", "на", "з", "із", "до", "що", "або", "не", "це", "для")
+            .map(SearchTokenizer::fold)
+            .collect(Collectors.toUnmodifiableSet());
+
+    private SearchTokenizer() {
+        throw new AssertionError(" Utility classes should not have a public or default constructor. [HideUtilityClassConstructor]");
+    }
+
+    public static String fold(final String text) {
+        if (isNull(text)) {
+            return "";
+        }
+        final String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    public static List<String> tokenize(final String text) {
+        final List<String> tokens = words(text);
+        tokens.removeIf(STOPWORDS::contains);
+        return tokens;
+    }
+
+    public static List<String> words(final String text) {
+        final List<String> words = new ArrayList<>();
+        for (final String word : SEPARATORS.split(fold(text))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    public static boolean isStopword(final String word) {
+        return STOPWORDS.contains(word);
+    }
+}
@@ -0,0 +1,20 @@
+package com.afj.solution.buyitapp.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * @author Tomash Gombosh
+ */
+public interface ImageStorageService {
+
+    StoredImage store(String key, InputStream inputStream) throws IOException;
+
+    Resource load(String key) throws IOException;
+
+    boolean exists(String key);
+
+    void delete(String key) throws IOException;
+}
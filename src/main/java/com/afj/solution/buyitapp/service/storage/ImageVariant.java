@@ -0,0 +1,40 @@
+package com.afj.solution.buyitapp.service.storage;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import lombok.Getter;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Getter
+public enum ImageVariant {
+    SMALL("128", 128),
+    MEDIUM("512", 512),
+    ORIGINAL("original", 0);
+
+    private final String value;
+    private final int maxSize;
+
+    ImageVariant(final String value, final int maxSize) {
+        this.value = value;
+        this.maxSize = maxSize;
+    }
+
+    public static Optional<ImageVariant> fromValue(final String value) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.value.equalsIgnoreCase(value))
+                .findFirst();
+    }
+
+    public String keyOf(final String originalKey) {
+        if (this == ORIGINAL) {
+            return originalKey;
+        }
+        final int extensionIndex = originalKey.lastIndexOf('.');
+        return extensionIndex > originalKey.lastIndexOf('/')
+                ? String.format("%s_%s%s", originalKey.substring(0, extensionIndex), value, originalKey.substring(extensionIndex))
+                : String.format("%s_%s", originalKey, value);
+    }
+}
@@ -0,0 +1,15 @@
+package com.afj.solution.buyitapp.service.storage;
+
+import java.io.IOException;
+
+/**
+ * @author Tomash Gombosh
+ */
+public interface ImageVariantService {
+
+    void generateVariants(String originalKey);
+
+    ImageVariant resolveVariant(String originalKey, ImageVariant requested);
+
+    void deleteWithVariants(String originalKey) throws IOException;
+}
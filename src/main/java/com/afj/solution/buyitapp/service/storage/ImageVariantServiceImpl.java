@@ -0,0 +1,110 @@
+package com.afj.solution.buyitapp.service.storage;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import javax.imageio.ImageIO;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import static java.util.Objects.isNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@Service
+public class ImageVariantServiceImpl implements ImageVariantService {
+
+    private final ImageStorageService imageStorage;
+    private final ThreadPoolTaskExecutor executor;
+
+    @Autowired
+    public ImageVariantServiceImpl(final ImageStorageService imageStorage,
+                                   @Qualifier("imageVariantExecutor") final ThreadPoolTaskExecutor executor) {
+        this.imageStorage = imageStorage;
+        this.executor = executor;
+    }
+
+    @Override
+    public void generateVariants(final String originalKey) {
+        try {
+            executor.execute(() -> createVariants(originalKey));
+        } catch (TaskRejectedException ex) {
+            log.warn("Skip the variants of the image {}, the queue is full", originalKey);
+        }
+    }
+
+    @Override
+    public ImageVariant resolveVariant(final String originalKey, final ImageVariant requested) {
+        return requested == ImageVariant.ORIGINAL || imageStorage.exists(requested.keyOf(originalKey))
+                ? requested
+                : ImageVariant.ORIGINAL;
+    }
+
+    @Override
+    public void deleteWithVariants(final String originalKey) throws IOException {
+        for (final ImageVariant variant : ImageVariant.values()) {
+            imageStorage.delete(variant.keyOf(originalKey));
+        }
+    }
+
+    private void createVariants(final String originalKey) {
+        final String formatName = getFormatName(originalKey);
+        try (InputStream inputStream = imageStorage.load(originalKey).getInputStream()) {
+            final BufferedImage original = ImageIO.read(inputStream);
+            if (isNull(original)) {
+                log.warn("Image {} can not be decoded, variants are not created", originalKey);
+                return;
+            }
+            for (final ImageVariant variant : ImageVariant.values()) {
+                if (variant != ImageVariant.ORIGINAL && Math.max(original.getWidth(), original.getHeight()) > variant.getMaxSize()) {
+                    storeVariant(originalKey, variant, resize(original, variant.getMaxSize(), formatName), formatName);
+                }
+            }
+        } catch (IOException ex) {
+            log.error("Failed to create variants of the image {}", originalKey, ex);
+        }
+    }
+
+    private void storeVariant(final String originalKey, final ImageVariant variant, final BufferedImage image,
+                              final String formatName) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, formatName, outputStream);
+        imageStorage.store(variant.keyOf(originalKey), new ByteArrayInputStream(outputStream.toByteArray()));
+        log.info("Created {} variant of the image {}", variant.getValue(), originalKey);
+    }
+
+    private BufferedImage resize(final BufferedImage original, final int maxSize, final String formatName) {
+        final double scale = (double) maxSize / Math.max(original.getWidth(), original.getHeight());
+        final int width = Math.max(1, (int) Math.round(original.getWidth() * scale));
+        final int height = Math.max(1, (int) Math.round(original.getHeight() * scale));
+        final int type = "png".equals(formatName) ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        final BufferedImage resized = new BufferedImage(width, height, type);
+        final Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private String getFormatName(final String key) {
+        final String extension = StringUtils.getFilenameExtension(key);
+        return isNull(extension) || "png".equals(extension.toLowerCase(Locale.ROOT)) ? "png" : "jpeg";
+    }
+}
@@ -0,0 +1,93 @@
+package com.afj.solution.buyitapp.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.storage.images.type", havingValue = "local", matchIfMissing = true)
+public class LocalImageStorageService implements ImageStorageService {
+
+    private static final String CHECKSUM_ALGORITHM = "MD5";
+
+    private final Path root;
+
+    @Autowired
+    public LocalImageStorageService(@Value("${app.storage.images.path}") final String path) throws IOException {
+        this.root = Files.createDirectories(Paths.get(path)).toAbsolutePath().normalize();
+        log.info("Store images in the {}", root);
+    }
+
+    @Override
+    public StoredImage store(final String key, final InputStream inputStream) throws IOException {
+        final Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        final Path temporary = Files.createTempFile(target.getParent(), "upload", ".tmp");
+        try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, newDigest())) {
+            final long contentLength = Files.copy(digestInputStream, temporary, REPLACE_EXISTING);
+            Files.move(temporary, target, ATOMIC_MOVE, REPLACE_EXISTING);
+            log.info("Stored image {} with {} bytes", key, contentLength);
+            return new StoredImage(key, contentLength, HexFormat.of().formatHex(digestInputStream.getMessageDigest().digest()));
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    @Override
+    public Resource load(final String key) throws IOException {
+        final Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchFileException(key);
+        }
+        return new FileSystemResource(path);
+    }
+
+    @Override
+    public boolean exists(final String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(final String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+        log.info("Deleted image {}", key);
+    }
+
+    private Path resolve(final String key) {
+        final Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException(String.format("Image key %s is outside of the storage", key));
+        }
+        return path;
+    }
+
+    private MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.afj.solution.buyitapp.service.storage;
+
+/**
+ * @author Tomash Gombosh
+ */
+public record StoredImage(String key, long contentLength, String checksum) {
+}
@@ -0,0 +1,188 @@
+package com.afj.solution.buyitapp.service.user;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.afj.solution.buyitapp.model.UserLogin;
+import com.afj.solution.buyitapp.repository.UserLoginRepository;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Keeps the login attempts in memory and writes the failed logins behind as deltas, so the instances of the
+ * application add up their failures in the database instead of overwriting each other. An entry without pending
+ * changes is read again once it is older than the ttl. Between two flushes an instance only sees its own failures,
+ * so across instances a user may get more than {@link #MAX_ATTEMPTS} attempts within one flush interval.
+ *
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@Service
+public class LoginAttemptCounter {
+
+    public static final int MAX_ATTEMPTS = 10;
+
+    private final UserLoginRepository userLoginRepository;
+    private final Map<UUID, Attempts> attempts = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    @Autowired
+    public LoginAttemptCounter(final UserLoginRepository userLoginRepository,
+                               @Value("${app.login-attempts.size}") final int maxSize,
+                               @Value("${app.login-attempts.ttl}") final long ttlMillis) {
+        this.userLoginRepository = userLoginRepository;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * Counts a failed login and returns the attempts the user had before it, zero means the user is out of attempts.
+     */
+    public int fail(final UUID userId) {
+        final Attempts loaded = current(userId);
+        final AtomicInteger previous = new AtomicInteger();
+        attempts.compute(userId, (id, current) -> {
+            final Attempts base = nonNull(current) ? current : loaded;
+            previous.set(base.remaining());
+            return base.remaining() > 0 ? base.fail() : base;
+        });
+        return previous.get();
+    }
+
+    /**
+     * A successful login gives the user all attempts back, it is only written when the user had lost some of them.
+     */
+    public void reset(final UUID userId) {
+        final Attempts loaded = current(userId);
+        attempts.compute(userId, (id, current) -> {
+            final Attempts base = nonNull(current) ? current : loaded;
+            return base.remaining() == MAX_ATTEMPTS ? base : base.reset();
+        });
+    }
+
+    public void created(final UUID userId) {
+        attempts.put(userId, new Attempts(MAX_ATTEMPTS, 0, false, System.currentTimeMillis()));
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.login-attempts.flush-interval}")
+    public synchronized void flush() {
+        final Map<UUID, Attempts> taken = new LinkedHashMap<>();
+        attempts.keySet().forEach(userId -> attempts.computeIfPresent(userId, (id, current) -> {
+            if (!current.dirty()) {
+                return current;
+            }
+            taken.put(id, current);
+            return current.taken();
+        }));
+        if (!taken.isEmpty()) {
+            int written = 0;
+            try {
+                for (final Map.Entry<UUID, Attempts> entry : taken.entrySet()) {
+                    write(entry.getKey(), entry.getValue());
+                    attempts.computeIfPresent(entry.getKey(), (id, current) -> current.dirty() ? current : current.stale());
+                    written++;
+                }
+                log.info("Flushed the login attempts of {} users", written);
+            } catch (DataAccessException ex) {
+                taken.entrySet()
+                        .stream()
+                        .skip(written)
+                        .forEach(e -> attempts.merge(e.getKey(), e.getValue(), (current, failed) -> current.restore(failed)));
+                log.warn("Login attempts of {} users are not flushed, retry with the next flush: {}",
+                        taken.size() - written, ex.getMessage());
+            }
+        }
+        if (attempts.size() > maxSize) {
+            attempts.forEach((userId, current) -> {
+                if (!current.dirty()) {
+                    attempts.remove(userId, current);
+                }
+            });
+        }
+    }
+
+    private void write(final UUID userId, final Attempts flushed) {
+        final boolean updated = flushed.restored()
+                ? userLoginRepository.updateTotal(userId, flushed.remaining()) > 0
+                : userLoginRepository.decreaseTotal(userId, flushed.failures()) > 0
+                || userLoginRepository.updateTotal(userId, 0) > 0;
+        if (!updated) {
+            userLoginRepository.save(new UserLogin(login -> {
+                login.setUserId(userId);
+                login.setTotal(Math.max(MAX_ATTEMPTS - flushed.failures(), 0));
+            }));
+        }
+    }
+
+    /**
+     * Reads the stored attempts outside of the map operations, so no database call runs under a map lock.
+     */
+    private Attempts current(final UUID userId) {
+        final long now = System.currentTimeMillis();
+        final Attempts current = attempts.get(userId);
+        if (nonNull(current) && (current.dirty() || now - current.loadedAt() < ttlMillis)) {
+            return current;
+        }
+        final int stored = userLoginRepository.findByUserId(userId)
+                .map(UserLogin::getTotal)
+                .orElse(MAX_ATTEMPTS);
+        return attempts.merge(userId, new Attempts(stored, 0, false, now),
+                (existing, loaded) -> existing.dirty() ? existing : loaded);
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    private record Attempts(int stored, int failures, boolean restored, long loadedAt) {
+
+        private int remaining() {
+            return Math.max((restored ? MAX_ATTEMPTS : stored) - failures, 0);
+        }
+
+        private boolean dirty() {
+            return restored || failures > 0;
+        }
+
+        private Attempts fail() {
+            return new Attempts(stored, failures + 1, restored, loadedAt);
+        }
+
+        private Attempts reset() {
+            return new Attempts(MAX_ATTEMPTS, 0, true, loadedAt);
+        }
+
+        /**
+         * The pending changes are being written, the entry keeps the same remaining attempts without them.
+         */
+        private Attempts taken() {
+            return new Attempts(remaining(), 0, false, loadedAt);
+        }
+
+        /**
+         * Written entries are read again on the next access to pick up the failures of the other instances.
+         */
+        private Attempts stale() {
+            return new Attempts(stored, failures, restored, 0);
+        }
+
+        /**
+         * Puts back the changes that were not written, unless the user has logged in since.
+         */
+        private Attempts restore(final Attempts failed) {
+            return restored ? this : new Attempts(failed.stored(), failed.failures() + failures, failed.restored(), loadedAt);
+        }
+    }
+}
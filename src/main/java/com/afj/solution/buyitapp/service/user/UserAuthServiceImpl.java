@@ -105,7 +105,7 @@ public class UserAuthServiceImpl implements UserAuthService {
         final User user = this
                 .findByUsername(username);
         if (!user.isPrivacyPolicy()) {
-            log.info("User {} not have accepted privacy policy", user);
+            log.info("User {} not have accepted privacy policy", user.getId());
             log.info("Redirect to the {} the user {}", redirects.getUserPrivacyPolicyUrl(), user.getId());
             return ResponseEntity
                     .status(302)
@@ -5,13 +5,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.afj.solution.buyitapp.exception.CustomAuthenticationException;
-import com.afj.solution.buyitapp.exception.EntityNotFoundException;
 import com.afj.solution.buyitapp.model.User;
 import com.afj.solution.buyitapp.model.UserLogin;
 import com.afj.solution.buyitapp.repository.UserLoginRepository;
 import com.afj.solution.buyitapp.repository.UserRepository;
 import com.afj.solution.buyitapp.service.localize.TranslatorService;
 
+import static com.afj.solution.buyitapp.service.user.LoginAttemptCounter.MAX_ATTEMPTS;
+
 /**
  * @author Kristian Gombosh
  */
@@ -22,66 +23,52 @@ public class UserLoginServiceImpl implements UserLoginService {
     private final UserRepository userRepository;
     private final UserLoginRepository userLoginRepository;
     private final TranslatorService translator;
+    private final UserStatusCache userStatusCache;
+    private final LoginAttemptCounter loginAttempts;
 
     @Autowired
     UserLoginServiceImpl(final UserLoginRepository userLoginRepository,
                          final UserRepository userRepository,
-                         final TranslatorService translator) {
+                         final TranslatorService translator,
+                         final UserStatusCache userStatusCache,
+                         final LoginAttemptCounter loginAttempts) {
         this.userLoginRepository = userLoginRepository;
         this.userRepository = userRepository;
         this.translator = translator;
+        this.userStatusCache = userStatusCache;
+        this.loginAttempts = loginAttempts;
     }
 
     @Override
     public void save(final User user) {
         userLoginRepository.save(new UserLogin(userLogin -> {
             userLogin.setUserId(user.getId());
-            userLogin.setTotal(10);
+            userLogin.setTotal(MAX_ATTEMPTS);
         }));
-
+        loginAttempts.created(user.getId());
     }
 
     @Override
     public void decreaseLoginAttempts(final User user) {
-        final UserLogin userLogin = userLoginRepository.findByUserId(user.getId())
-                .orElseThrow(() ->
-                        new EntityNotFoundException(String.format(translator
-                                .toLocale("error.user.not-found"), user.getId())));
-        userLogin.setTotal(userLogin.getTotal() - 1);
-        userLoginRepository.save(userLogin);
+        loginAttempts.fail(user.getId());
     }
 
     @Override
     public void checkLoginAttempts(final User user) {
-        if (userLoginRepository.findByUserId(user.getId()).isEmpty()) {
-            userLoginRepository.save(new UserLogin(userLogin -> {
-                userLogin.setUserId(user.getId());
-                userLogin.setTotal(10);
-            }));
-            return;
-        }
-        final UserLogin userLogin = userLoginRepository.findByUserId(user.getId()).get();
-        if (userLogin.getTotal() == 0) {
+        final int remaining = loginAttempts.fail(user.getId());
+        if (remaining == 0) {
             user.setEnabled(false);
             userRepository.save(user);
+            userStatusCache.invalidate(user.getId());
             throw new CustomAuthenticationException(translator.toLocale("error.user.locked-out"));
         }
-        this.decreaseLoginAttempts(user);
         throw new CustomAuthenticationException(String.format(translator
                         .toLocale("error.credential.locked-out"),
-                userLogin.getTotal()));
+                remaining));
     }
 
     @Override
     public void updateLoginAttempts(final User user) {
-        final UserLogin userLogin = userLoginRepository.findByUserId(user.getId())
-                .orElseThrow(() ->
-                        new EntityNotFoundException(String.format(translator
-                                .toLocale("error.user.not-found"), user.getId())));
-        final int successLoginNumber = 10;
-        if (userLogin.getTotal() != successLoginNumber) {
-            userLogin.setTotal(10);
-            userLoginRepository.save(userLogin);
-        }
+        loginAttempts.reset(user.getId());
     }
 }
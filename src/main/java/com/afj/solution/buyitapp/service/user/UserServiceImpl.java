@@ -37,6 +37,7 @@ public class UserServiceImpl implements UserService {
     private final CreateUserRequestToUser createUserRequestToUser;
     private final UserLoginServiceImpl userLoginService;
     private final TranslatorService translator;
+    private final UserStatusCache userStatusCache;
 
     @Autowired
     public UserServiceImpl(final UserRepository userRepository,
@@ -44,13 +45,15 @@ public class UserServiceImpl implements UserService {
                            final UserToResponseConverter converter,
                            final CreateUserRequestToUser createUserRequestToUser,
                            final UserLoginServiceImpl userLoginService,
-                           final TranslatorService translator) {
+                           final TranslatorService translator,
+                           final UserStatusCache userStatusCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.converter = converter;
         this.createUserRequestToUser = createUserRequestToUser;
         this.userLoginService = userLoginService;
         this.translator = translator;
+        this.userStatusCache = userStatusCache;
     }
 
     @Override
@@ -91,12 +94,13 @@ public class UserServiceImpl implements UserService {
         exitingUser.setFirstName(request.firstName());
         exitingUser.setLastName(request.lastName());
         this.save(exitingUser);
+        userStatusCache.invalidate(userId);
         return exitingUser;
     }
 
     @Override
     public User updateUser(final UUID userId, final User user) {
-        log.info("Update the {} with new values {}", userId, user);
+        log.info("Update the user {}", userId);
         final Set<GrantedAuthority> grantedAuthorities = user
                 .getAuthorities()
                 .stream()
@@ -108,7 +112,11 @@ public class UserServiceImpl implements UserService {
         existingUser.setLastName(user.getLastName());
         existingUser.setPhoneNumber(user.getPhoneNumber());
         userRepository.save(existingUser);
-        log.info("Save the {} with new values {}", userId, user);
+        userStatusCache.invalidate(userId);
+        log.info("Save the user {}", userId);
+        if (log.isDebugEnabled()) {
+            log.debug("New values of the user {}", user);
+        }
         return existingUser;
     }
 
@@ -130,7 +138,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new EntityNotFoundException(String.format(
                         translator.toLocale("error.user.not-found"), userId
                 )));
-        log.info("Find user by id {}", user);
+        log.info("Find user by id {}", userId);
 
         return converter.convert(user);
     }
@@ -154,6 +162,7 @@ public class UserServiceImpl implements UserService {
         existingUser.update(newUser, existingUser);
         existingUser.setPassword(passwordEncoder.encode(newUser.getPassword()));
         userRepository.save(existingUser);
+        userStatusCache.invalidate(userId);
         userLoginService.save(existingUser);
     }
 }
@@ -0,0 +1,53 @@
+package com.afj.solution.buyitapp.service.user;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.afj.solution.buyitapp.common.ExpiringCache;
+import com.afj.solution.buyitapp.exception.CustomAuthenticationException;
+import com.afj.solution.buyitapp.model.UserStatus;
+import com.afj.solution.buyitapp.repository.UserRepository;
+import com.afj.solution.buyitapp.service.localize.TranslatorService;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@Service
+public class UserStatusCache {
+
+    private final UserRepository userRepository;
+    private final TranslatorService translator;
+    private final ExpiringCache<UUID, UserStatus> statuses;
+
+    @Autowired
+    public UserStatusCache(final UserRepository userRepository,
+                           final TranslatorService translator,
+                           @Value("${app.cache.user-status.size}") final int size,
+                           @Value("${app.cache.user-status.ttl}") final long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.translator = translator;
+        this.statuses = new ExpiringCache<>(size, Duration.ofSeconds(ttlSeconds));
+    }
+
+    public UserStatus getStatus(final UUID userId) {
+        return statuses.get(userId, this::loadStatus);
+    }
+
+    public void invalidate(final UUID userId) {
+        log.info("Invalidate the cached status of the user {}", userId);
+        statuses.invalidate(userId);
+    }
+
+    private UserStatus loadStatus(final UUID userId) {
+        log.info("Load the status of the user {}", userId);
+        return userRepository
+                .findStatusById(userId)
+                .orElseThrow(() -> new CustomAuthenticationException(translator.toLocale("error.token.invalid")));
+    }
+}
@@ -0,0 +1,11 @@
+ALTER TABLE image
+    ADD storage_key VARCHAR(255) NULL AFTER file_name;
+
+ALTER TABLE image
+    ADD content_type VARCHAR(255) NULL AFTER storage_key;
+
+ALTER TABLE image
+    ADD content_length BIGINT NULL AFTER content_type;
+
+ALTER TABLE image
+    ADD checksum VARCHAR(64) NULL AFTER content_length;
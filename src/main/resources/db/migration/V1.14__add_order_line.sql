@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS order_line
+(
+    id         BINARY(16)   not null primary key,
+    order_id   BINARY(16)   not null,
+    product_id BINARY(16)   not null,
+    quantity   int          not null,
+    unit_price float        not null,
+    currency   varchar(255) null,
+    INDEX order_line_order_id_index (order_id),
+    FOREIGN KEY (order_id) REFERENCES user_order (id)
+) ENGINE = InnoDb;
+
+INSERT INTO order_line(id, order_id, product_id, quantity, unit_price, currency)
+SELECT UUID_TO_BIN(UUID()), opi.order_id, opi.product_ids, 1, COALESCE(p.price, 0), p.currency
+FROM order_product_ids opi
+         JOIN user_order o ON o.id = opi.order_id
+         LEFT JOIN product p ON p.id = opi.product_ids;
+
+DROP TABLE order_product_ids;
@@ -0,0 +1,12 @@
+ALTER TABLE product
+    ADD rating_count INT NOT NULL DEFAULT 0 AFTER quantity;
+
+ALTER TABLE product
+    ADD rating_sum BIGINT NOT NULL DEFAULT 0 AFTER rating_count;
+
+UPDATE product p
+    JOIN (SELECT product_id, COUNT(*) AS total, SUM(star) AS stars
+          FROM rating
+          GROUP BY product_id) r ON r.product_id = p.id
+SET p.rating_count = r.total,
+    p.rating_sum   = r.stars;
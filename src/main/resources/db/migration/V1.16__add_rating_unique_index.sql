@@ -0,0 +1,13 @@
+DELETE r1
+FROM rating r1
+         JOIN rating r2 ON r1.product_id = r2.product_id AND r1.user_id = r2.user_id AND r1.id > r2.id;
+
+UPDATE product p
+    LEFT JOIN (SELECT product_id, COUNT(*) AS total, SUM(star) AS stars
+               FROM rating
+               GROUP BY product_id) r ON r.product_id = p.id
+SET p.rating_count = COALESCE(r.total, 0),
+    p.rating_sum   = COALESCE(r.stars, 0);
+
+CREATE UNIQUE INDEX rating_product_id_user_id_uindex
+    ON rating (product_id, user_id);
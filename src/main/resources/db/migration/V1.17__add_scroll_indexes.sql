@@ -0,0 +1,5 @@
+CREATE INDEX product_created_at_id_index
+    ON product (created_at, id);
+
+CREATE INDEX user_order_user_id_created_at_id_index
+    ON user_order (user_id, created_at, id);
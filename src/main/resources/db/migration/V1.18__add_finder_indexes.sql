@@ -0,0 +1,16 @@
+DROP INDEX FKf812pygec41i5jo6oduhrr0aw ON user_order;
+
+CREATE INDEX category_localization_category_id_locale_index
+    ON category_localization (category_id, locale);
+
+DROP INDEX FKf812pygec22i5jo6odudjksdjk ON category_localization;
+
+CREATE INDEX category_localization_sub_category_id_locale_index
+    ON category_localization (sub_category_id, locale);
+
+DROP INDEX FKf812pygec21i5jo6odudjksdjk ON category_localization;
+
+CREATE INDEX product_created_user_id_created_at_id_index
+    ON product (created_user_id, created_at, id);
+
+DROP INDEX FKf812pygec41i5jo6oasdasdad ON product;
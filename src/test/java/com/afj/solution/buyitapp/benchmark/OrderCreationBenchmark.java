@@ -0,0 +1,143 @@
+package com.afj.solution.buyitapp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.afj.solution.buyitapp.Application;
+import com.afj.solution.buyitapp.model.Order;
+import com.afj.solution.buyitapp.model.OrderLine;
+import com.afj.solution.buyitapp.model.category.Category;
+import com.afj.solution.buyitapp.model.enums.OrderStatus;
+import com.afj.solution.buyitapp.model.product.Product;
+import com.afj.solution.buyitapp.payload.request.CreateOrderRequest;
+import com.afj.solution.buyitapp.payload.response.OrderResponse;
+import com.afj.solution.buyitapp.repository.CategoryRepository;
+import com.afj.solution.buyitapp.repository.OrderRepository;
+import com.afj.solution.buyitapp.repository.ProductRepository;
+import com.afj.solution.buyitapp.service.order.OrderService;
+import com.afj.solution.buyitapp.service.product.ProductService;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+/**
+ * Runs against the database of the local profile.
+ *
+ * @author Tomash Gombosh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderCreationBenchmark {
+
+    private static final UUID USER_ID = UUID.fromString("3b0a4223-35e6-47b1-9ac3-f95911979574");
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private ProductRepository productRepository;
+    private OrderRepository orderRepository;
+    private TransactionTemplate transactionTemplate;
+    private List<UUID> productIds;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderCreationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .profiles("local")
+                .run();
+        orderService = context.getBean(OrderService.class);
+        productRepository = context.getBean(ProductRepository.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        final ProductService productService = context.getBean(ProductService.class);
+        final Category category = context.getBean(CategoryRepository.class).findAll()
+                .stream()
+                .filter(c -> !c.getSubCategories().isEmpty())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No categories for the benchmark"));
+        final UUID subCategoryId = category.getSubCategories().iterator().next().getId();
+        productIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < items; i++) {
+                productIds.add(productService.save(BaseTest.productRequest(
+                        "Order benchmark product " + i,
+                        "Product for the order creation benchmark",
+                        Integer.MAX_VALUE,
+                        category.getId(),
+                        subCategoryId), USER_ID).getId());
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Creates the order the way it was created before the stock updates were grouped, with one product entity load
+     * and one stock update per item.
+     */
+    @Benchmark
+    public Order createOrderPerItem() {
+        return transactionTemplate.execute(status -> {
+            final Order order = new Order(o -> {
+                o.setUserId(USER_ID);
+                o.setStatus(OrderStatus.PENDING);
+            });
+            for (final UUID productId : productIds) {
+                final Product product = productRepository.findById(productId)
+                        .orElseThrow(() -> new IllegalStateException("No product for the benchmark"));
+                productRepository.decreaseQuantity(List.of(productId), 1);
+                order.getLines().add(new OrderLine(l -> {
+                    l.setOrder(order);
+                    l.setProductId(product.getId());
+                    l.setQuantity(1);
+                    l.setUnitPrice(product.getPrice());
+                    l.setCurrency(product.getCurrency());
+                }));
+            }
+            order.setTotal((float) order.getLines().stream().mapToDouble(OrderLine::getUnitPrice).sum());
+            return orderRepository.save(order);
+        });
+    }
+
+    @Benchmark
+    public OrderResponse createOrder() {
+        return orderService.create(new CreateOrderRequest(productIds), USER_ID);
+    }
+}
@@ -0,0 +1,120 @@
+package com.afj.solution.buyitapp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+
+import com.afj.solution.buyitapp.model.User;
+import com.afj.solution.buyitapp.model.category.Category;
+import com.afj.solution.buyitapp.model.category.SubCategory;
+import com.afj.solution.buyitapp.model.enums.Currency;
+import com.afj.solution.buyitapp.model.product.Characteristic;
+import com.afj.solution.buyitapp.model.product.Image;
+import com.afj.solution.buyitapp.model.product.Product;
+import com.afj.solution.buyitapp.repository.CategoryLocalizationRepository;
+import com.afj.solution.buyitapp.repository.CategoryRepository;
+import com.afj.solution.buyitapp.service.category.CategoryTreeCache;
+import com.afj.solution.buyitapp.service.converters.product.ProductToResponseConverter;
+
+import static com.afj.solution.buyitapp.constans.Patterns.DEFAULT_LANGUAGE;
+
+/**
+ * @author Tomash Gombosh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPageLoggingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private ProductToResponseConverter converter;
+    private List<Product> page;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProductPageLoggingBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+        converter = new ProductToResponseConverter(new CategoryTreeCache(
+                Mockito.mock(CategoryLocalizationRepository.class),
+                Mockito.mock(CategoryRepository.class)));
+
+        final User user = new User(u -> {
+            u.setId(UUID.randomUUID());
+            u.setUsername("john");
+            u.setEmail("john@mail.com");
+            u.setFirstName("John");
+            u.setLastName("Doe");
+        });
+        final Category category = new Category(c -> c.setId(UUID.randomUUID()));
+        final SubCategory subCategory = new SubCategory(s -> s.setId(UUID.randomUUID()));
+        page = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            final int number = i;
+            page.add(new Product(p -> {
+                p.setId(UUID.randomUUID());
+                p.setName("Product " + number);
+                p.setDescription("Description of the product number " + number);
+                p.setPrice(44.4f);
+                p.setCurrency(Currency.USD);
+                p.setQuantity(number);
+                p.setUser(user);
+                p.setCategory(category);
+                p.setSubCategory(subCategory);
+                p.setImage(new Image(image -> image.setFileName("product-" + number + ".jpg")));
+                p.setCharacteristic(new Characteristic(c -> {
+                    c.setSize("S");
+                    c.setColor("black");
+                }));
+            }));
+        }
+    }
+
+    /**
+     * Formats every row the way the INFO log of the converter did, with the product dump.
+     */
+    @Benchmark
+    public void convertWithEagerLogging(final Blackhole blackhole) {
+        for (final Product product : page) {
+            blackhole.consume(MessageFormatter.format("Convert the product({}) to response", product).getMessage());
+            blackhole.consume(converter.convert(product, DEFAULT_LANGUAGE));
+        }
+    }
+
+    @Benchmark
+    public void convert(final Blackhole blackhole) {
+        for (final Product product : page) {
+            blackhole.consume(converter.convert(product, DEFAULT_LANGUAGE));
+        }
+    }
+}
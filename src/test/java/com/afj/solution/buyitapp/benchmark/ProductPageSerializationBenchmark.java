@@ -0,0 +1,92 @@
+package com.afj.solution.buyitapp.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.afj.solution.buyitapp.payload.response.CategoryResponse;
+import com.afj.solution.buyitapp.payload.response.CharacteristicResponse;
+import com.afj.solution.buyitapp.payload.response.CreatedByResponse;
+import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.payload.response.SubCategoryResponse;
+
+import static com.afj.solution.buyitapp.constans.Patterns.DEFAULT_SCROLL_SIZE;
+
+/**
+ * @author Tomash Gombosh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPageSerializationBenchmark {
+
+    @Param({"default", "blackbird"})
+    private String mapper;
+
+    private ObjectMapper objectMapper;
+    private Page<ProductResponse> page;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProductPageSerializationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setUp() {
+        final Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if ("blackbird".equals(mapper)) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        final List<ProductResponse> products = new ArrayList<>();
+        for (int i = 0; i < DEFAULT_SCROLL_SIZE; i++) {
+            products.add(new ProductResponse(UUID.randomUUID(),
+                    "Product " + i,
+                    "Description of the product number " + i,
+                    "44.4 USD",
+                    i,
+                    BigDecimal.valueOf(4.5),
+                    null,
+                    new CharacteristicResponse("S", "black", null),
+                    new CreatedByResponse(UUID.randomUUID(), "John", "Doe", "john@mail.com", "+380000000000", "Home"),
+                    new CategoryResponse(UUID.randomUUID(), "flowers", "Flowers", "All flowers",
+                            new SubCategoryResponse(UUID.randomUUID(), "Roses", "Red roses"))));
+        }
+        page = new PageImpl<>(products, PageRequest.of(0, DEFAULT_SCROLL_SIZE), 1000);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,67 @@
+package com.afj.solution.buyitapp.integration.product;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.afj.solution.buyitapp.integration.BaseTest;
+import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.service.product.ProductQueryService;
+
+@DisplayName("Product listing tests")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductListingTest extends BaseTest {
+
+    private static final long MAX_STATEMENTS_PER_PAGE = 2;
+
+    @Autowired
+    private ProductQueryService productQueryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Products page is loaded with a bounded number of statements")
+    void getProductsStatementCount() {
+        final Page<ProductResponse> products = productQueryService.getProducts(PageRequest.of(0, 50), "gb", null, null, null);
+
+        assertThat(products.getContent())
+                .as("Products page should not be empty")
+                .isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("Products page should be loaded by the page query and the count query only")
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(statistics.getEntityLoadCount())
+                .as("Products page should not load any entity")
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Category page is loaded with a bounded number of statements")
+    void getProductsByCategoryStatementCount() {
+        productQueryService.getProducts(PageRequest.of(0, 50), "ua", categoryId, null, null);
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("Category page should be loaded by the page query and the count query only")
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+        assertThat(statistics.getEntityLoadCount())
+                .as("Category page should not load any entity")
+                .isZero();
+    }
+}
@@ -1,19 +1,27 @@
 package com.afj.solution.buyitapp.unit;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import javax.persistence.EntityManager;
 
 import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.afj.solution.buyitapp.model.User;
 import com.afj.solution.buyitapp.model.category.Category;
+import com.afj.solution.buyitapp.model.enums.Currency;
+import com.afj.solution.buyitapp.payload.request.CreateProductRequest;
 import com.afj.solution.buyitapp.repository.CategoryRepository;
+import com.afj.solution.buyitapp.service.product.ProductService;
 import com.afj.solution.buyitapp.service.user.UserService;
 
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
@@ -32,6 +40,17 @@ public class BaseTest implements WithAssertions {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<UUID> createdProductIds = new ArrayList<>();
+
     protected final UUID productId = UUID.fromString("2a51b256-a6ef-4748-9354-a869290c3bf0");
     protected final UUID userId = UUID.fromString("3b0a4223-35e6-47b1-9ac3-f95911979574");
     protected final UUID cancelOrderId = UUID.fromString("3e5451f2-efb3-42ce-88f1-1a566421e676");
@@ -61,4 +80,45 @@ public class BaseTest implements WithAssertions {
                 .orElseThrow(() -> new AssertionError("No categories for tests"))
                 .getId();
     }
+
+    /**
+     * The products are deleted with their ratings once all tests of the class have run, after the cleanup of the
+     * subclass removed the orders of them.
+     */
+    @AfterAll
+    void deleteCreatedProducts() {
+        if (createdProductIds.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("DELETE FROM Rating r WHERE r.product.id IN :ids")
+                    .setParameter("ids", createdProductIds)
+                    .executeUpdate();
+            entityManager.createQuery("DELETE FROM Product p WHERE p.id IN :ids")
+                    .setParameter("ids", createdProductIds)
+                    .executeUpdate();
+        });
+    }
+
+    /**
+     * Creates the product of the test user in the test category.
+     */
+    protected UUID createProduct(final String name, final String description, final int quantity) {
+        final UUID id = transactionTemplate.execute(status ->
+                productService.save(productRequest(name, description, quantity, categoryId, subCategoryId), userId).getId());
+        createdProductIds.add(id);
+        return id;
+    }
+
+    public static CreateProductRequest productRequest(final String name, final String description, final int quantity,
+                                                      final UUID categoryId, final UUID subCategoryId) {
+        return new CreateProductRequest(
+                name,
+                (float) 10.0,
+                quantity,
+                Currency.USD,
+                description,
+                categoryId,
+                subCategoryId);
+    }
 }
@@ -0,0 +1,76 @@
+package com.afj.solution.buyitapp.unit.config;
+
+import javax.sql.DataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.afj.solution.buyitapp.config.EndpointTimedDataSource;
+import com.afj.solution.buyitapp.service.product.ProductService;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+import static com.afj.solution.buyitapp.config.EndpointTimedDataSource.ACQUIRE_METRIC;
+import static com.afj.solution.buyitapp.config.EndpointTimedDataSource.NO_ENDPOINT;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Connection pool metrics tests")
+class EndpointTimedDataSourceTest extends BaseTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ProductService productService;
+
+    @AfterEach
+    void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Connection wait is recorded for the endpoint")
+    void recordEndpoint() {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products/" + productId);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/products/{id}");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        productService.findById(productId);
+
+        final Timer timer = meterRegistry.find(ACQUIRE_METRIC).tag("uri", "GET /api/v1/products/{id}").timer();
+        assertThat(dataSource)
+                .as("Data source should be wrapped to time the connection wait")
+                .isInstanceOf(EndpointTimedDataSource.class);
+        assertThat(timer)
+                .as("Connection wait should be tagged by the endpoint")
+                .isNotNull();
+        assertThat(timer.count())
+                .as("Connection wait should be recorded")
+                .isPositive();
+    }
+
+    @Test
+    @DisplayName("Connection wait outside of a request is recorded without endpoint")
+    void recordWithoutEndpoint() {
+        productService.findById(productId);
+
+        assertThat(meterRegistry.find(ACQUIRE_METRIC).tag("uri", NO_ENDPOINT).timer())
+                .as("Connection wait outside of a request should be tagged as none")
+                .isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").gauge())
+                .as("Pool metrics should be exposed")
+                .isNotNull();
+    }
+}
@@ -0,0 +1,223 @@
+package com.afj.solution.buyitapp.unit.repository;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.afj.solution.buyitapp.repository.CategoryRepository;
+import com.afj.solution.buyitapp.repository.OrderRepository;
+import com.afj.solution.buyitapp.repository.ProductRepository;
+import com.afj.solution.buyitapp.repository.RatingRepository;
+import com.afj.solution.buyitapp.repository.SubcategoryRepository;
+import com.afj.solution.buyitapp.repository.UserLoginRepository;
+import com.afj.solution.buyitapp.repository.UserRepository;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Repository index tests")
+class RepositoryIndexTest extends BaseTest {
+
+    private static final String FULL_SCAN = "ALL";
+    private static final String NULL = "NULL";
+    private static final UUID ID = UUID.fromString("3b0a4223-35e6-47b1-9ac3-f95911979574");
+    private static final UUID OTHER_ID = UUID.fromString("2a51b256-a6ef-4748-9354-a869290c3bf0");
+    private static final ZonedDateTime CREATED_AT = ZonedDateTime.parse("2021-09-01T00:00:00Z");
+    private static final String CREATED_AT_LITERAL = "'2021-09-01 00:00:00'";
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * Finders the small test database may serve with a full scan, they still need an index the optimizer can pick.
+     */
+    private static final Map<String, String> KNOWN_FULL_SCANS = Map.of(
+            "ProductRepository.findListingByCategory",
+            "the category or the sub category is matched by an index merge, which is skipped for a few rows");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserLoginRepository userLoginRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private SubcategoryRepository subcategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    /**
+     * The finders with the literals of their bind parameters in the order Hibernate renders them, the listings that
+     * read the whole table on purpose are not here.
+     */
+    Stream<Arguments> finders() {
+        final String id = literal(ID);
+        final String otherId = literal(OTHER_ID);
+        final String category = literal(categoryId);
+        return Stream.of(
+                finder("UserRepository.findByUsername",
+                        () -> userRepository.findByUsername("user"),
+                        "'user'"),
+                finder("UserRepository.findByUsernameOrEmail",
+                        () -> userRepository.findByUsernameOrEmail("user", "user@mail.com"),
+                        "'user'", "'user@mail.com'"),
+                finder("UserRepository.findStatusById",
+                        () -> userRepository.findStatusById(ID),
+                        id),
+                finder("UserLoginRepository.findByUserId",
+                        () -> userLoginRepository.findByUserId(ID),
+                        id),
+                finder("OrderRepository.findAllByUserId",
+                        () -> orderRepository.findAllByUserId(PageRequest.of(0, 20, NEWEST_FIRST), ID),
+                        id, "20"),
+                finder("OrderRepository.findAllByUserIdAfter",
+                        () -> orderRepository.findAllByUserIdAfter(PageRequest.of(0, 21), ID, CREATED_AT, ID),
+                        id, CREATED_AT_LITERAL, CREATED_AT_LITERAL, CREATED_AT_LITERAL, id, "21"),
+                finder("CategoryRepository.findByName",
+                        () -> categoryRepository.findByName("cars"),
+                        "'cars'"),
+                finder("SubcategoryRepository.findByCategoryId",
+                        () -> subcategoryRepository.findByCategoryId(categoryId),
+                        category),
+                finder("ProductRepository.findListingByUser",
+                        () -> productRepository.findListingByUser(PageRequest.of(0, 20, NEWEST_FIRST), ID),
+                        id, "20"),
+                finder("ProductRepository.findListingByCategory",
+                        () -> productRepository.findListingByCategory(PageRequest.of(0, 20), categoryId),
+                        category, category, "20"),
+                finder("ProductRepository.findListingAfter",
+                        () -> productRepository.findListingAfter(PageRequest.of(0, 21), null, null, null),
+                        NULL, NULL, NULL, NULL, NULL, NULL, NULL, "21"),
+                finder("ProductRepository.findListingAfter by category",
+                        () -> productRepository.findListingAfter(PageRequest.of(0, 21), categoryId, CREATED_AT, ID),
+                        category, category, category, CREATED_AT_LITERAL, CREATED_AT_LITERAL, CREATED_AT_LITERAL, id, "21"),
+                finder("ProductRepository.findStockByIdIn",
+                        () -> productRepository.findStockByIdIn(List.of(ID, OTHER_ID)),
+                        id, otherId),
+                finder("RatingRepository.existsByProductIdAndUserId",
+                        () -> ratingRepository.existsByProductIdAndUserId(OTHER_ID, ID),
+                        otherId, id, "1"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    @DisplayName("Finder is served by an index")
+    void explainFinder(final String finder, final Runnable call, final List<String> literals) {
+        final List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            call.run();
+        } finally {
+            CAPTURED.remove();
+        }
+
+        assertThat(statements)
+                .as("%s should run a statement", finder)
+                .isNotEmpty();
+        explain(finder, bind(finder, statements.get(0), literals, true));
+        statements.stream()
+                .filter(sql -> sql.startsWith("select count("))
+                .forEach(sql -> explain(finder, bind(finder, sql, literals, false)));
+    }
+
+    private void explain(final String finder, final String sql) {
+        final List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        assertThat(plan)
+                .as("%s should have a plan", finder)
+                .isNotEmpty();
+        if (KNOWN_FULL_SCANS.containsKey(finder)) {
+            assertThat(plan)
+                    .as("%s may scan the whole table because %s, but should have an index: %s",
+                            finder, KNOWN_FULL_SCANS.get(finder), plan)
+                    .allMatch(row -> !FULL_SCAN.equals(row.get("type")) || nonNull(row.get("possible_keys")));
+        } else {
+            assertThat(plan)
+                    .as("%s should not scan the whole table: %s", finder, plan)
+                    .noneMatch(row -> FULL_SCAN.equals(row.get("type")));
+        }
+    }
+
+    /**
+     * Inlines the literals into the captured statement, the count query of a page binds the leading ones.
+     */
+    private String bind(final String finder, final String sql, final List<String> literals, final boolean exact) {
+        final StringBuilder bound = new StringBuilder();
+        int parameter = 0;
+        for (final char c : sql.toCharArray()) {
+            if (c == '?') {
+                assertThat(parameter)
+                        .as("%s has more bind parameters than literals: %s", finder, sql)
+                        .isLessThan(literals.size());
+                bound.append(literals.get(parameter++));
+            } else {
+                bound.append(c);
+            }
+        }
+        if (exact) {
+            assertThat(parameter)
+                    .as("%s should bind every literal: %s", finder, sql)
+                    .isEqualTo(literals.size());
+        }
+        return bound.toString();
+    }
+
+    private static Arguments finder(final String finder, final Runnable call, final String... literals) {
+        return Arguments.of(finder, call, List.of(literals));
+    }
+
+    private static String literal(final UUID id) {
+        return "X'" + id.toString().replace("-", "") + "'";
+    }
+
+    /**
+     * @author Tomash Gombosh
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspector() {
+            final StatementInspector inspector = sql -> {
+                final List<String> statements = CAPTURED.get();
+                if (nonNull(statements)) {
+                    statements.add(sql);
+                }
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.afj.solution.buyitapp.unit.security;
+
+import java.util.concurrent.CountDownLatch;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.afj.solution.buyitapp.exception.ServiceUnavailableException;
+import com.afj.solution.buyitapp.security.BoundedPasswordEncoder;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Bounded password encoder tests")
+class BoundedPasswordEncoderTest implements WithAssertions {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ThreadPoolTaskExecutor executor;
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void createEncoder() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.initialize();
+        passwordEncoder = new BoundedPasswordEncoder(executor, meterRegistry);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Encode and match the password")
+    void matches() {
+        final String encoded = passwordEncoder.encode("Test123$");
+
+        assertThat(passwordEncoder.matches("Test123$", encoded))
+                .as("Password should match its hash")
+                .isTrue();
+        assertThat(meterRegistry.get("app.password.hash").tag("operation", "matches").timer().count())
+                .as("Hash time should be recorded")
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Reject the hash when the executor is saturated")
+    void rejectWhenSaturated() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            release.await();
+            return null;
+        });
+        try {
+            assertThatThrownBy(() -> passwordEncoder.matches("Test123$", "$2a$10$invalid"))
+                    .as("Hash should be rejected while all hashing threads are busy")
+                    .isInstanceOf(ServiceUnavailableException.class);
+            assertThat(meterRegistry.get("app.password.hash.rejected").counter().count())
+                    .as("Rejected hash should be counted")
+                    .isEqualTo(1);
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package com.afj.solution.buyitapp.unit.security;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import com.afj.solution.buyitapp.exception.CustomAuthenticationException;
+import com.afj.solution.buyitapp.model.User;
+import com.afj.solution.buyitapp.security.JwtPrincipal;
+import com.afj.solution.buyitapp.security.JwtTokenProvider;
 import com.afj.solution.buyitapp.unit.BaseTest;
 
 /**
@@ -10,4 +20,51 @@ import com.afj.solution.buyitapp.unit.BaseTest;
 @DisplayName("JWT token provider tests")
 public class JwtTokenProviderTest extends BaseTest {
 
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @DisplayName("Parse token to the principal")
+    void parseToken() {
+        final String token = jwtTokenProvider.createToken(new User(u -> {
+            u.setId(userId);
+            u.setUsername("unit_test");
+            u.setAuthorities(Set.of(new SimpleGrantedAuthority("ROLE_USER")));
+        }));
+
+        final JwtPrincipal principal = jwtTokenProvider.getPrincipalFromToken(token);
+        assertThat(principal.id())
+                .as("Principal should have the user id from the token")
+                .isEqualTo(userId);
+        assertThat(principal.username())
+                .as("Principal should have the username from the token")
+                .isEqualTo("unit_test");
+        assertThat(principal.roles())
+                .as("Principal should have the roles from the token")
+                .extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        assertThat(jwtTokenProvider.getPrincipalFromToken(token))
+                .as("Verified token should be taken from the cache")
+                .isSameAs(principal);
+    }
+
+    @Test
+    @DisplayName("Parse invalid token")
+    void parseInvalidToken() {
+        final String token = jwtTokenProvider.createToken(new User(u -> {
+            u.setId(userId);
+            u.setUsername("unit_test");
+            u.setAuthorities(Set.of(new SimpleGrantedAuthority("ROLE_USER")));
+        }));
+        final int signatureStart = token.lastIndexOf('.') + 1;
+        final char signatureChar = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+        final String tamperedToken = token.substring(0, signatureStart) + signatureChar + token.substring(signatureStart + 1);
+
+        assertThat(jwtTokenProvider.validateToken(tamperedToken))
+                .as("Token with the wrong signature should not be valid")
+                .isFalse();
+        assertThatThrownBy(() -> jwtTokenProvider.getUuidFromToken(tamperedToken))
+                .as("Token with the wrong signature should not be parsed")
+                .isInstanceOf(CustomAuthenticationException.class);
+    }
 }
@@ -0,0 +1,112 @@
+package com.afj.solution.buyitapp.unit.service.category;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.afj.solution.buyitapp.model.category.Category;
+import com.afj.solution.buyitapp.model.category.CategoryEntry;
+import com.afj.solution.buyitapp.payload.response.CategoryResponse;
+import com.afj.solution.buyitapp.repository.CategoryLocalizationRepository;
+import com.afj.solution.buyitapp.repository.CategoryRepository;
+import com.afj.solution.buyitapp.service.category.CategoryTreeCache;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Category tree cache tests")
+class CategoryTreeCacheTest extends BaseTest {
+
+    @Autowired
+    private CategoryTreeCache categoryTreeCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    @DisplayName("Get localized category")
+    void getLocalizedCategory() {
+        final CategoryResponse category = categoryTreeCache.getCategory(categoryId, subCategoryId, "gb");
+
+        assertThat(category.id())
+                .as("Category should be the requested one")
+                .isEqualTo(categoryId);
+        assertThat(category.description())
+                .as("Category should be localized to the requested language")
+                .isEqualTo("Cars category");
+        assertThat(category.subCategory().id())
+                .as("Sub category should be the requested one")
+                .isEqualTo(subCategoryId);
+    }
+
+    @Test
+    @DisplayName("Get category that is not the parent of the sub category")
+    void getCategoryOfProduct() {
+        final Category otherCategory = categoryRepository.findAll()
+                .stream()
+                .filter(c -> !c.getId().equals(categoryId))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No categories for tests"));
+
+        final CategoryResponse category = categoryTreeCache.getCategory(otherCategory.getId(), subCategoryId, "gb");
+
+        assertThat(category.id())
+                .as("Category should be taken from the product, not from the parent of the sub category")
+                .isEqualTo(otherCategory.getId());
+        assertThat(category.url())
+                .as("Category url should be the name of the requested category")
+                .isEqualTo(otherCategory.getName());
+        assertThat(category.subCategory().id())
+                .as("Sub category should be the requested one")
+                .isEqualTo(subCategoryId);
+    }
+
+    @Test
+    @DisplayName("Get category for unknown language")
+    void getCategoryForUnknownLanguage() {
+        final CategoryResponse category = categoryTreeCache.getCategory(categoryId, subCategoryId, "unknown");
+
+        assertThat(category.id())
+                .as("Category should be resolved without the localization")
+                .isEqualTo(categoryId);
+        assertThat(category.description())
+                .as("Category should not have a localized description")
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("Same snapshot is shared between requests")
+    void getCategoryFromSnapshot() {
+        assertThat(categoryTreeCache.getCategory(categoryId, subCategoryId, "ua"))
+                .as("Category response should be taken from the snapshot")
+                .isSameAs(categoryTreeCache.getCategory(categoryId, subCategoryId, "ua"));
+    }
+
+    @Test
+    @DisplayName("Tree built before an invalidation is not kept")
+    void invalidateWhileBuilding() {
+        final CategoryRepository staleCategoryRepository = Mockito.mock(CategoryRepository.class);
+        final CategoryLocalizationRepository localizationRepository = Mockito.mock(CategoryLocalizationRepository.class);
+        final CategoryTreeCache cache = new CategoryTreeCache(localizationRepository, staleCategoryRepository);
+        final UUID id = UUID.randomUUID();
+        Mockito.when(localizationRepository.findAllEntries()).thenReturn(List.of());
+        Mockito.when(staleCategoryRepository.findAllEntries())
+                .thenAnswer(invocation -> {
+                    cache.invalidateAfterCommit();
+                    return List.of(new CategoryEntry(id, "old"));
+                })
+                .thenReturn(List.of(new CategoryEntry(id, "new")));
+
+        assertThat(cache.getCategory(id, subCategoryId, "gb").url())
+                .as("Read that raced with the invalidation should get the rows it has read")
+                .isEqualTo("old");
+        assertThat(cache.getCategory(id, subCategoryId, "gb").url())
+                .as("Next read should build the tree from the committed rows")
+                .isEqualTo("new");
+    }
+}
@@ -0,0 +1,55 @@
+package com.afj.solution.buyitapp.unit.service.localize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.afj.solution.buyitapp.service.localize.ErrorResponseCache;
+import com.afj.solution.buyitapp.service.localize.TranslatorService;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+import static com.afj.solution.buyitapp.service.localize.ErrorResponseCache.ACCESS_DENIED;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Error response cache tests")
+class ErrorResponseCacheTest extends BaseTest {
+
+    @Autowired
+    private ErrorResponseCache errorResponses;
+
+    @Autowired
+    private TranslatorService translator;
+
+    @Test
+    @DisplayName("Get localized error response")
+    void getResponse() {
+        final Locale hungarian = new Locale("hu");
+        final byte[] response = errorResponses.getResponse(ACCESS_DENIED, hungarian);
+
+        assertThat(new String(response, StandardCharsets.UTF_8))
+                .as("Error response should contain the localized message")
+                .contains(translator.getMessage(ACCESS_DENIED, null, hungarian))
+                .contains("Failed");
+        assertThat(errorResponses.getResponse(ACCESS_DENIED, new Locale("hu", "HU")))
+                .as("Error response should be shared by the locales of the same bundle")
+                .isSameAs(response);
+    }
+
+    @Test
+    @DisplayName("Get error response for the message")
+    void getMessageResponse() {
+        final byte[] response = errorResponses.getMessageResponse("Token is expired");
+
+        assertThat(new String(response, StandardCharsets.UTF_8))
+                .as("Error response should contain the message")
+                .contains("\"message\":\"Token is expired\"");
+        assertThat(errorResponses.getMessageResponse("Token is expired"))
+                .as("Error response should be encoded once per message")
+                .isSameAs(response);
+    }
+}
@@ -0,0 +1,44 @@
+package com.afj.solution.buyitapp.unit.service.localize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.afj.solution.buyitapp.service.localize.LocalizeBundle;
+import com.afj.solution.buyitapp.service.localize.LocalizeCache;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Localize cache tests")
+class LocalizeCacheTest extends BaseTest {
+
+    @Autowired
+    private LocalizeCache localizeCache;
+
+    @Test
+    @DisplayName("Get localize bundle per locale")
+    void getBundle() {
+        final LocalizeBundle hungarian = localizeCache.get(new Locale("hu"));
+        final LocalizeBundle english = localizeCache.get(new Locale("gb"));
+
+        assertThat(hungarian.messages())
+                .as("Bundle should contain the localized messages")
+                .containsEntry("header.product.button", "Termékek");
+        assertThat(new String(hungarian.json(), StandardCharsets.UTF_8))
+                .as("Bundle should be serialized once with the localized messages")
+                .contains("\"header.product.button\":\"Termékek\"");
+        assertThat(localizeCache.get(new Locale("hu")))
+                .as("Bundle should be taken from the cache")
+                .isSameAs(hungarian);
+        assertThat(english.etag())
+                .as("Every locale should have its own ETag")
+                .isNotEqualTo(hungarian.etag())
+                .startsWith("\"")
+                .endsWith("\"");
+    }
+}
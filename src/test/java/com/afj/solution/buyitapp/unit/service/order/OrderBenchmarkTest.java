@@ -0,0 +1,102 @@
+package com.afj.solution.buyitapp.unit.service.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.afj.solution.buyitapp.payload.request.CreateOrderRequest;
+import com.afj.solution.buyitapp.payload.response.OrderResponse;
+import com.afj.solution.buyitapp.repository.OrderRepository;
+import com.afj.solution.buyitapp.service.order.OrderService;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Order statement count tests")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderBenchmarkTest extends BaseTest {
+
+    private static final int PRODUCTS = 100;
+    private static final long MAX_STATEMENTS_PER_ORDER = 5;
+    private static final long MAX_STATEMENTS_PER_ORDERS_PAGE = 4;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<UUID> productIds = new ArrayList<>();
+    private final List<UUID> orderIds = new ArrayList<>();
+
+    @BeforeAll
+    void createProducts() {
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds.add(createProduct("Benchmark product " + i, "Product for the order statement counts", PRODUCTS));
+        }
+    }
+
+    @AfterAll
+    void deleteOrders() {
+        orderRepository.deleteAllById(orderIds);
+    }
+
+    @ParameterizedTest(name = "Order with {0} items")
+    @ValueSource(ints = {1, 10, 100})
+    @DisplayName("Order takes a constant number of statements")
+    void createOrder(final int items) {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final OrderResponse order = orderService.create(new CreateOrderRequest(productIds.subList(0, items)), userId);
+        orderIds.add(order.getId());
+
+        assertThat(order.getProducts())
+                .as("Order should contain all ordered products")
+                .hasSize(items);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("Order should not issue statements per item")
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_ORDER);
+        assertThat(statistics.getEntityLoadCount())
+                .as("Order should not load product entities")
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Orders page takes a constant number of statements")
+    void getMyOrders() {
+        for (int i = 0; i < 10; i++) {
+            orderIds.add(orderService.create(new CreateOrderRequest(productIds.subList(i, i + 10)), userId).getId());
+        }
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final Page<OrderResponse> orders = orderService.getMyOrders(PageRequest.of(0, 50), userId);
+
+        assertThat(orders.getContent())
+                .as("Orders page should contain the created orders")
+                .hasSizeGreaterThanOrEqualTo(10)
+                .allMatch(o -> !o.getProducts().isEmpty());
+        assertThat(statistics.getPrepareStatementCount())
+                .as("Orders page should not issue statements per order")
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_ORDERS_PAGE);
+    }
+}
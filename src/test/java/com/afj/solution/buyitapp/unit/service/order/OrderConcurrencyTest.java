@@ -0,0 +1,124 @@
+package com.afj.solution.buyitapp.unit.service.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.afj.solution.buyitapp.exception.BadRequestException;
+import com.afj.solution.buyitapp.payload.request.CreateOrderRequest;
+import com.afj.solution.buyitapp.repository.OrderRepository;
+import com.afj.solution.buyitapp.service.order.OrderService;
+import com.afj.solution.buyitapp.service.product.ProductService;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@DisplayName("Order concurrency tests")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderConcurrencyTest extends BaseTest {
+
+    private static final int STOCK = 20;
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 5;
+    private static final long MAX_STATEMENTS_PER_TRANSACTION = 5;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<UUID> orderIds = new CopyOnWriteArrayList<>();
+    private UUID limitedProductId;
+
+    @BeforeAll
+    void createLimitedProduct() {
+        limitedProductId = createProduct("Limited edition", "Product with the limited quantity", STOCK);
+    }
+
+    @AfterAll
+    void deleteOrders() {
+        orderRepository.deleteAllById(orderIds);
+    }
+
+    @Test
+    @DisplayName("Concurrent orders do not oversell the product")
+    void createOrdersConcurrently() throws Exception {
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger outOfStock = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < ORDERS_PER_THREAD; j++) {
+                        try {
+                            orderIds.add(orderService.create(new CreateOrderRequest(List.of(limitedProductId)), userId).getId());
+                            created.incrementAndGet();
+                        } catch (BadRequestException ex) {
+                            outOfStock.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            final long startedAt = System.nanoTime();
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+            final long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            log.info("Placed {} orders ({} rejected) in {} ms, {} orders/s, {} statements in {} transactions",
+                    created.get(), outOfStock.get(), elapsedMillis, (THREADS * ORDERS_PER_THREAD) * 1000L / elapsedMillis,
+                    statistics.getPrepareStatementCount(), statistics.getTransactionCount());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(created.get())
+                .as("Only the available quantity of the product should be ordered")
+                .isEqualTo(STOCK);
+        assertThat(outOfStock.get())
+                .as("All other orders should be rejected as out of stock")
+                .isEqualTo(THREADS * ORDERS_PER_THREAD - STOCK);
+        assertThat(statistics.getPrepareStatementCount())
+                .as("Orders and their retries should not issue statements per item or per conflict")
+                .isLessThanOrEqualTo(statistics.getTransactionCount() * MAX_STATEMENTS_PER_TRANSACTION);
+        assertThat(statistics.getEntityLoadCount())
+                .as("Orders should not load product entities")
+                .isZero();
+        assertThat(productService.findById(limitedProductId).getQuantity())
+                .as("Product quantity should never be negative")
+                .isZero();
+    }
+}
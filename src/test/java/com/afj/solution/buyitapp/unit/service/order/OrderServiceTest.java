@@ -1,6 +1,11 @@
 package com.afj.solution.buyitapp.unit.service.order;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,9 +15,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.Rollback;
 
 import com.afj.solution.buyitapp.exception.BadRequestException;
+import com.afj.solution.buyitapp.model.product.ProductStock;
 import com.afj.solution.buyitapp.payload.request.CreateOrderRequest;
+import com.afj.solution.buyitapp.payload.response.OrderProductResponse;
 import com.afj.solution.buyitapp.payload.response.OrderResponse;
+import com.afj.solution.buyitapp.payload.response.ScrollResponse;
+import com.afj.solution.buyitapp.repository.OrderRepository;
 import com.afj.solution.buyitapp.service.order.OrderServiceImpl;
+import com.afj.solution.buyitapp.service.product.ProductService;
 import com.afj.solution.buyitapp.unit.BaseTest;
 
 import static com.afj.solution.buyitapp.model.enums.OrderStatus.CANCEL;
@@ -26,6 +36,12 @@ class OrderServiceTest extends BaseTest {
     @Autowired
     private OrderServiceImpl orderService;
 
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductService productService;
+
     @Test
     @DisplayName("Create Order")
     void createOrder() {
@@ -37,6 +53,39 @@ class OrderServiceTest extends BaseTest {
 
     }
 
+    @Test
+    @DisplayName("Create Order with the same product twice")
+    void createOrderWithProductQuantity() {
+        final CreateOrderRequest request = new CreateOrderRequest(List.of(productId, productId));
+
+        final OrderResponse orderResponse = orderService.create(request, userId);
+        assertThat(orderResponse.getProducts())
+                .as("Same product should be ordered as one line")
+                .singleElement()
+                .satisfies(p -> assertThat(p.getQuantity()).isEqualTo(2));
+        final OrderProductResponse product = orderResponse.getProducts().iterator().next();
+        assertThat(orderResponse.getTotal())
+                .as("Total should be counted from the line quantity")
+                .isEqualTo(product.getPrice() * 2);
+    }
+
+    @Test
+    @DisplayName("Create Order with a product out of stock")
+    void createOrderOutOfStock() {
+        final UUID lastItemId = createProduct("Last item", "Product for the order tests", 1);
+        final UUID stockedItemId = createProduct("Stocked item", "Product for the order tests", 5);
+
+        assertThatThrownBy(() -> orderService.create(new CreateOrderRequest(List.of(lastItemId, lastItemId, stockedItemId)), userId))
+                .as("Only the product without enough quantity should be reported")
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("Last item")
+                .hasMessageNotContaining("Stocked item");
+        assertThat(productService.getProductsStock(List.of(lastItemId, stockedItemId)))
+                .as("Rejected order should not change the stock")
+                .extracting(ProductStock::quantity)
+                .containsExactlyInAnyOrder(1, 5);
+    }
+
     @Test
     @DisplayName("Get my Orders")
     void getMyOrders() {
@@ -45,6 +94,38 @@ class OrderServiceTest extends BaseTest {
                 .anyMatch(r -> r.getProducts().stream().anyMatch(p -> p.getId().equals(productId)));
     }
 
+    @Test
+    @DisplayName("Scroll my Orders with the cursor")
+    void scrollMyOrders() {
+        final UUID scrolledItemId = createProduct("Scrolled item", "Product for the order tests", 3);
+        final List<UUID> created = IntStream.range(0, 3)
+                .mapToObj(i -> orderService.create(new CreateOrderRequest(List.of(scrolledItemId)), userId).getId())
+                .collect(Collectors.toList());
+        try {
+            final Set<UUID> scrolled = new HashSet<>();
+            ScrollResponse<OrderResponse> page = orderService.scrollMyOrders(null, 1, userId);
+            addScrolled(scrolled, page);
+            while (page.getNext() != null) {
+                page = orderService.scrollMyOrders(page.getNext(), 1, userId);
+                addScrolled(scrolled, page);
+            }
+
+            assertThat(scrolled)
+                    .as("Scroll should return every order of the user created before it has started")
+                    .containsAll(created);
+        } finally {
+            orderRepository.deleteAllById(created);
+        }
+    }
+
+    @Test
+    @DisplayName("Scroll my Orders with the invalid cursor")
+    void scrollMyOrdersWithInvalidCursor() {
+        assertThatThrownBy(() -> orderService.scrollMyOrders("not-a-cursor", 20, userId))
+                .as("Invalid cursor should be rejected")
+                .isInstanceOf(BadRequestException.class);
+    }
+
     @Test
     @DisplayName("Cancel order with status CANCEL")
     void cancelOrderWithCancelStatus() {
@@ -67,4 +148,13 @@ class OrderServiceTest extends BaseTest {
         assertThat(orderService.findById(waitingForPaymentOrderId).getStatus())
                 .isEqualTo(CANCEL);
     }
+
+    private void addScrolled(final Set<UUID> scrolled, final ScrollResponse<OrderResponse> page) {
+        assertThat(page.getItems())
+                .as("Scroll page should not be bigger than the requested size")
+                .hasSizeLessThanOrEqualTo(1);
+        page.getItems().forEach(o -> assertThat(scrolled.add(o.getId()))
+                .as("Scroll should not return the same order twice")
+                .isTrue());
+    }
 }
@@ -0,0 +1,160 @@
+package com.afj.solution.buyitapp.unit.service.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import com.afj.solution.buyitapp.exception.BadRequestException;
+import com.afj.solution.buyitapp.exception.EntityNotFoundException;
+import com.afj.solution.buyitapp.model.User;
+import com.afj.solution.buyitapp.model.product.RatingSummary;
+import com.afj.solution.buyitapp.repository.ProductRepository;
+import com.afj.solution.buyitapp.repository.UserRepository;
+import com.afj.solution.buyitapp.service.product.ProductRatingService;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+/**
+ * @author Tomash Gombosh
+ */
+@Slf4j
+@DisplayName("Product rating load tests")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductRatingLoadTest extends BaseTest {
+
+    private static final int RATINGS = 20;
+    private static final int CONCURRENT_RATERS = 8;
+    private static final long MAX_STATEMENTS_PER_RATING = 4;
+
+    @Autowired
+    private ProductRatingService ratingService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID ratedProductId;
+    private List<UUID> raterIds;
+
+    @BeforeAll
+    void createProductAndRaters() {
+        ratedProductId = createProduct("Popular product", "Product with a lot of ratings", 1);
+        raterIds = userRepository.saveAll(IntStream.range(0, RATINGS + 1 + CONCURRENT_RATERS)
+                        .mapToObj(i -> new User(u -> {
+                            final String name = "rater-" + UUID.randomUUID();
+                            u.setUsername(name);
+                            u.setEmail(name + "@mail.com");
+                            u.setPassword("password");
+                            u.setFirstName("Rater");
+                            u.setLastName(String.valueOf(i));
+                        }))
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(User::getId)
+                .collect(Collectors.toList());
+    }
+
+    @AfterAll
+    void deleteRaters() {
+        userRepository.deleteAllById(raterIds);
+    }
+
+    @Test
+    @DisplayName("Rating statements do not grow with the rating count")
+    void addRatings() {
+        final RatingSummary before = getRatingSummary();
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        final List<Long> statements = new ArrayList<>();
+        for (int i = 0; i < RATINGS; i++) {
+            statistics.clear();
+            ratingService.addRating(i % 5 + 1, ratedProductId, raterIds.get(i));
+            statements.add(statistics.getPrepareStatementCount());
+        }
+        log.info("Statements per rating: first {}, after {} ratings {}",
+                statements.get(0), RATINGS - 1, statements.get(RATINGS - 1));
+
+        assertThat(statements)
+                .as("Every rating should take the same number of statements, whatever the rating count is")
+                .containsOnly(statements.get(0));
+        assertThat(statements.get(0))
+                .as("Rating should not load the product or its ratings")
+                .isLessThanOrEqualTo(MAX_STATEMENTS_PER_RATING);
+        assertThat(getRatingSummary())
+                .as("Rating summary should count every added rating")
+                .isEqualTo(new RatingSummary(before.count() + RATINGS, before.sum() + RATINGS * 3L));
+    }
+
+    @Test
+    @DisplayName("Concurrent ratings of the same product are all added")
+    void addRatingsConcurrently() throws Exception {
+        final RatingSummary before = getRatingSummary();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_RATERS);
+        final List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (final UUID raterId : raterIds.subList(RATINGS + 1, RATINGS + 1 + CONCURRENT_RATERS)) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    ratingService.addRating(4, ratedProductId, raterId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(getRatingSummary())
+                .as("Concurrent raters should neither deadlock nor lose a rating")
+                .isEqualTo(new RatingSummary(before.count() + CONCURRENT_RATERS, before.sum() + CONCURRENT_RATERS * 4L));
+    }
+
+    @Test
+    @DisplayName("Add rating twice")
+    void addRatingTwice() {
+        final UUID ratingUserId = raterIds.get(RATINGS);
+        ratingService.addRating(5, ratedProductId, ratingUserId);
+
+        assertThatThrownBy(() -> ratingService.addRating(4, ratedProductId, ratingUserId))
+                .as("Second rating of the same user should be rejected")
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Add rating of an unknown user")
+    void addRatingOfUnknownUser() {
+        assertThatThrownBy(() -> ratingService.addRating(5, ratedProductId, UUID.randomUUID()))
+                .as("Rating of a user that does not exist should be rejected")
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private RatingSummary getRatingSummary() {
+        return productRepository.findRatingSummaryById(ratedProductId)
+                .orElseThrow(() -> new AssertionError("No rated product for tests"));
+    }
+}
@@ -32,4 +32,19 @@ class ProductRatingServiceTest extends BaseTest {
         assertThat(rating.getStar())
                 .isEqualTo(productStar);
     }
+
+    @Test
+    @DisplayName("Total rating is taken from the rating summary")
+    void getTotalRating() {
+        final double average = productRepository.findById(productId)
+                .orElseThrow(() -> new AssertionError("No such product id"))
+                .getRatings()
+                .stream()
+                .mapToInt(Rating::getStar)
+                .average()
+                .orElse(0.0);
+        assertThat(service.getTotalRating(productId))
+                .as("Rating summary should match the product ratings")
+                .isCloseTo(average, within(0.001));
+    }
 }
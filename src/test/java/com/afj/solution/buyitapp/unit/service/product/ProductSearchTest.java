@@ -0,0 +1,131 @@
+package com.afj.solution.buyitapp.unit.service.product;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.afj.solution.buyitapp.model.product.Product;
+import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.payload.response.ProductSuggestionResponse;
+import com.afj.solution.buyitapp.service.product.ProductQueryService;
+import com.afj.solution.buyitapp.service.product.ProductService;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Product search tests")
+class ProductSearchTest extends BaseTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductQueryService productQueryService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID bicycleId;
+    private UUID bicycleBellId;
+    private UUID bicycleRackId;
+    private UUID chairId;
+
+    @BeforeAll
+    void createProducts() {
+        bicycleId = createProduct("Mountain bicycle", "Bicycle with the aluminium frame", 1);
+        bicycleBellId = createProduct("Loud bell", "Bell for the mountain bicycle", 1);
+        bicycleRackId = createProduct("Bicycles rack", "Wall rack for two bikes", 1);
+        chairId = createProduct("Kerti szék", "Összecsukható szék a kertbe", 1);
+    }
+
+    @Test
+    @DisplayName("Search products by the title prefix")
+    void searchByTitlePrefix() {
+        final Page<ProductResponse> products = productQueryService.getProducts(PageRequest.of(0, 20), "gb", null, "mount bicy", null);
+        assertThat(products.getContent())
+                .as("Search should match the title by the word prefixes")
+                .extracting(ProductResponse::id)
+                .contains(bicycleId)
+                .doesNotContain(bicycleBellId, bicycleRackId, chairId);
+    }
+
+    @Test
+    @DisplayName("Search products ranks the exact word above the prefix")
+    void searchRanking() {
+        final List<UUID> products = productQueryService.getProducts(PageRequest.of(0, 20), "gb", null, "bicycle", null)
+                .stream()
+                .map(ProductResponse::id)
+                .collect(Collectors.toList());
+        assertThat(products)
+                .as("Search should match the exact word and the prefix")
+                .contains(bicycleId, bicycleRackId);
+        assertThat(products.indexOf(bicycleId))
+                .as("Exact word should rank higher than the prefix")
+                .isLessThan(products.indexOf(bicycleRackId));
+    }
+
+    @Test
+    @DisplayName("Search products without accents")
+    void searchWithoutAccents() {
+        final Page<ProductResponse> products = productQueryService.getProducts(PageRequest.of(0, 20), "hu", null, "szek", "osszecsukhato");
+        assertThat(products.getContent())
+                .as("Search should fold the accents of the title and description")
+                .extracting(ProductResponse::id)
+                .contains(chairId)
+                .doesNotContain(bicycleId);
+    }
+
+    @Test
+    @DisplayName("Search products by stopwords only")
+    void searchByStopwords() {
+        final Page<ProductResponse> products = productQueryService.getProducts(PageRequest.of(0, 20), "gb", null, null, "for the");
+        assertThat(products.getContent())
+                .as("Search without indexed terms should match the description by its text")
+                .extracting(ProductResponse::id)
+                .contains(bicycleBellId)
+                .doesNotContain(bicycleId, bicycleRackId, chairId);
+    }
+
+    @Test
+    @DisplayName("Suggest products by any word of the name")
+    void suggestProducts() {
+        assertThat(productQueryService.suggestProducts("bicy", 20))
+                .as("Suggestions should match the prefix of any word of the name")
+                .extracting(ProductSuggestionResponse::id)
+                .contains(bicycleId, bicycleRackId)
+                .doesNotContain(bicycleBellId);
+        assertThat(productQueryService.suggestProducts("Mountain B", 20))
+                .as("Suggestions should match the name prefix across the words")
+                .extracting(ProductSuggestionResponse::name)
+                .contains("Mountain bicycle");
+    }
+
+    @Test
+    @DisplayName("Suggest renamed product")
+    void suggestRenamedProduct() {
+        final UUID lampId = createProduct("Desk lamp", "Lamp for the desk", 1);
+        transactionTemplate.executeWithoutResult(status -> {
+            final Product lamp = productService.findById(lampId);
+            lamp.setName("Reading lamp");
+            productService.save(lamp);
+        });
+
+        assertThat(productQueryService.suggestProducts("reading", 20))
+                .as("Renamed product should be suggested by the new name")
+                .extracting(ProductSuggestionResponse::id)
+                .contains(lampId);
+        assertThat(productQueryService.suggestProducts("desk", 20))
+                .as("Renamed product should not be suggested by the old name")
+                .extracting(ProductSuggestionResponse::id)
+                .doesNotContain(lampId);
+    }
+}
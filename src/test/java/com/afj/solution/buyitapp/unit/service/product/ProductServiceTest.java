@@ -1,14 +1,27 @@
 package com.afj.solution.buyitapp.unit.service.product;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
+import com.afj.solution.buyitapp.exception.BadRequestException;
 import com.afj.solution.buyitapp.model.enums.Currency;
 import com.afj.solution.buyitapp.model.product.Product;
 import com.afj.solution.buyitapp.payload.request.CreateProductRequest;
+import com.afj.solution.buyitapp.payload.response.ProductResponse;
+import com.afj.solution.buyitapp.payload.response.ScrollResponse;
 import com.afj.solution.buyitapp.repository.ProductRepository;
+import com.afj.solution.buyitapp.service.product.ProductQueryService;
 import com.afj.solution.buyitapp.service.product.ProductService;
 import com.afj.solution.buyitapp.unit.BaseTest;
 
@@ -22,6 +35,9 @@ class ProductServiceTest extends BaseTest {
     private ProductService productService;
 
 
+    @Autowired
+    private ProductQueryService productQueryService;
+
     @Autowired
     private ProductRepository productRepository;
 
@@ -43,4 +59,57 @@ class ProductServiceTest extends BaseTest {
                 .isTrue();
 
     }
+
+    @Test
+    @DisplayName("Get products filtered by category")
+    void getProductsByCategory() {
+        final Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new AssertionError("No products for tests"));
+        final Page<ProductResponse> products = productQueryService.getProducts(PageRequest.of(0, 20), "gb",
+                product.getCategory().getId(), null, null);
+        assertThat(products.getContent())
+                .as("Category page should contain the product from that category")
+                .extracting(ProductResponse::id)
+                .contains(productId);
+        assertThat(products.getTotalElements())
+                .as("Total should be counted by the database, not by the page size")
+                .isGreaterThanOrEqualTo(products.getContent().size());
+    }
+
+    @Test
+    @DisplayName("Scroll products with the cursor")
+    void scrollProducts() {
+        final List<UUID> created = IntStream.range(0, 5)
+                .mapToObj(i -> createProduct("Scroll product " + i, "Product to scroll", 1))
+                .collect(Collectors.toList());
+
+        final Set<UUID> scrolled = new HashSet<>();
+        ScrollResponse<ProductResponse> page = productQueryService.scrollProducts(null, 2, "gb", categoryId);
+        addScrolled(scrolled, page);
+        while (page.getNext() != null) {
+            page = productQueryService.scrollProducts(page.getNext(), 2, "gb", categoryId);
+            addScrolled(scrolled, page);
+        }
+
+        assertThat(scrolled)
+                .as("Scroll should return every product of the category, also the ones created in the same second")
+                .containsAll(created);
+    }
+
+    @Test
+    @DisplayName("Scroll products with the invalid cursor")
+    void scrollProductsWithInvalidCursor() {
+        assertThatThrownBy(() -> productQueryService.scrollProducts("not-a-cursor", 20, "gb", null))
+                .as("Invalid cursor should be rejected")
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private void addScrolled(final Set<UUID> scrolled, final ScrollResponse<ProductResponse> page) {
+        assertThat(page.getItems())
+                .as("Scroll page should not be bigger than the requested size")
+                .hasSizeLessThanOrEqualTo(2);
+        page.getItems().forEach(p -> assertThat(scrolled.add(p.id()))
+                .as("Scroll should not return the same product twice")
+                .isTrue());
+    }
 }
@@ -0,0 +1,86 @@
+package com.afj.solution.buyitapp.unit.service.user;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.afj.solution.buyitapp.model.UserLogin;
+import com.afj.solution.buyitapp.repository.UserLoginRepository;
+import com.afj.solution.buyitapp.service.user.LoginAttemptCounter;
+import com.afj.solution.buyitapp.unit.BaseTest;
+
+import static com.afj.solution.buyitapp.service.user.LoginAttemptCounter.MAX_ATTEMPTS;
+
+/**
+ * @author Tomash Gombosh
+ */
+@DisplayName("Login attempt counter tests")
+class LoginAttemptCounterTest extends BaseTest {
+
+    @Autowired
+    private LoginAttemptCounter loginAttempts;
+
+    @Autowired
+    private UserLoginRepository userLoginRepository;
+
+    @AfterEach
+    void resetAttempts() {
+        loginAttempts.reset(userId);
+        loginAttempts.flush();
+    }
+
+    @Test
+    @DisplayName("Failed logins are flushed to the database")
+    void flushFailedLogins() {
+        loginAttempts.reset(userId);
+        loginAttempts.fail(userId);
+        loginAttempts.fail(userId);
+        loginAttempts.flush();
+
+        assertThat(userLoginRepository.findByUserId(userId).map(UserLogin::getTotal))
+                .as("Stored attempts should be decreased by the failed logins")
+                .contains(MAX_ATTEMPTS - 2);
+
+        loginAttempts.reset(userId);
+        loginAttempts.flush();
+
+        assertThat(userLoginRepository.findByUserId(userId).map(UserLogin::getTotal))
+                .as("Successful login should restore all attempts")
+                .contains(MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("User runs out of attempts")
+    void runOutOfAttempts() {
+        loginAttempts.reset(userId);
+        for (int i = MAX_ATTEMPTS; i > 0; i--) {
+            assertThat(loginAttempts.fail(userId))
+                    .as("Failed login should report the attempts left before it")
+                    .isEqualTo(i);
+        }
+
+        assertThat(loginAttempts.fail(userId))
+                .as("User without attempts should be locked out")
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Failed logins of another instance are kept")
+    void keepFailedLoginsOfAnotherInstance() {
+        loginAttempts.fail(userId);
+        loginAttempts.flush();
+        loginAttempts.reset(userId);
+        loginAttempts.flush();
+        loginAttempts.fail(userId);
+        userLoginRepository.decreaseTotal(userId, 3);
+        loginAttempts.flush();
+
+        assertThat(userLoginRepository.findByUserId(userId).map(UserLogin::getTotal))
+                .as("Flush should add the failed logins to the stored attempts instead of overwriting them")
+                .contains(MAX_ATTEMPTS - 4);
+        assertThat(loginAttempts.fail(userId))
+                .as("Flushed attempts should be read again from the database")
+                .isEqualTo(MAX_ATTEMPTS - 4);
+    }
+}